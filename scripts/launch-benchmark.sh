@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Measures time-to-first-hand and the total runtime of a 1,000-launch scripted run,
+# once with default JVM settings and once with the fast-start profile (AppCDS archive + C1 only).
+# Time-to-first-hand is reported by BatchMain itself: the time from JVM start until the first hand is dealt.
+# Build first with: mvn -P fast-start package
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=target/Blackjack-1.0-SNAPSHOT.jar
+ARCHIVE=target/blackjack.jsa
+LAUNCHES=${LAUNCHES:-1000}
+
+if [ ! -f "$JAR" ] || [ ! -f "$ARCHIVE" ]; then
+    echo "Missing $JAR or $ARCHIVE, run: mvn -P fast-start package" >&2
+    exit 1
+fi
+
+# Runs one launch per iteration and prints the average time-to-first-hand and the total wall-clock runtime
+measure() {
+    local label=$1
+    shift
+    local start end first_hand=0
+    start=$(date +%s%N)
+    for ((i = 0; i < LAUNCHES; i++)); do
+        local reported
+        reported=$(java "$@" -Dblackjack.timing=true -cp "$JAR" com.game.main.BatchMain yn 2>&1 > /dev/null)
+        first_hand=$((first_hand + ${reported##* }))
+    done
+    end=$(date +%s%N)
+    local total=$(((end - start) / 1000000))
+    echo "$label: time-to-first-hand $((first_hand / LAUNCHES)) ms (average), $LAUNCHES launches $total ms (total)"
+}
+
+measure "default   " -Xshare:auto
+measure "fast-start" -XX:SharedArchiveFile="$ARCHIVE" -XX:TieredStopAtLevel=1
@@ -7,9 +7,17 @@ package com.game.core;
  */
 
 import com.game.ui.UserInterface;
+import java.util.Random;
 
 public class BlackjackGame {
 
+    // Declaring symbolic constants for the ways a game can be settled
+    public static final int YOU_BUSTED = 1;
+    public static final int HOUSE_BUSTED = 2;
+    public static final int YOUR_SCORE_HIGHER = 3;
+    public static final int HOUSE_SCORE_HIGHER = 4;
+    public static final int TIE = 5;
+
     // Declaring Instance Variables
 
     // Instance Variables of type CardPile which represent the card deck, the house's cards, and the player's cards
@@ -32,11 +40,22 @@ public class BlackjackGame {
      */
 
     public BlackjackGame(UserInterface ui) {
+        this(ui, null); // Cards are dealt with Math.random
+    }
+
+    /**
+     * Constructor
+     * This is used to create a BlackjackGame object whose cards are dealt by the given generator.
+     * A seeded generator deals the exact same game every time, which lets other engines be checked against this one.
+     * Parameter: `ui` is of type UserInterface.
+     * Parameter: `random` is of type Random, or null to deal with Math.random.
+     */
+    public BlackjackGame(UserInterface ui, Random random) {
         this.ui = ui; // Linking the provided user interface to this game instance
         ui.setGame(this); // Registering this game with the user interface
 
-        // Initializing the deck with 52 cards (13 ranks * 4 suits)
-        deck = new CardPile();
+        // Initializing the deck with 52 cards (13 ranks * 4 suits), dealt by the given generator
+        deck = new CardPile(random);
         for (int i = 2; i < 15; i++) { // Outer loop: iterates through all card ranks (2 to Ace)
             for (int j = 0; j < 4; j++) { // Inner loop: iterates through the four suits (Clubs, Diamonds, Hearts, Spades)
                 deck.add(new Card(i, j, true)); // Adding a new card of the current rank and suit to the deck
@@ -220,6 +239,94 @@ public class BlackjackGame {
         return score; // Return the final calculated score
     }
 
+    /**
+     * Method - Settlement
+     * This method decides how the game ends from the current hands of the house and the player.
+     * No parameters
+     * Integer return type - Returns one of YOU_BUSTED, HOUSE_BUSTED, YOUR_SCORE_HIGHER, HOUSE_SCORE_HIGHER or TIE.
+     */
+    public int outcome() {
+        return settle(calculateScore(getYourCards()), calculateScore(getHouseCards()));
+    }
+
+    /**
+     * Method - Settlement
+     * This method decides how a game ends from the final scores. A player bust is checked first, so the
+     * player loses even if the house would also have busted.
+     * Parameters: `yourScore` is the player's score and `houseScore` is the house's score.
+     * Integer return type - Returns one of YOU_BUSTED, HOUSE_BUSTED, YOUR_SCORE_HIGHER, HOUSE_SCORE_HIGHER or TIE.
+     */
+    public static int settle(int yourScore, int houseScore) {
+        // Player's score exceeds 21 (bust)
+        if (yourScore > 21) {
+            return YOU_BUSTED;
+        }
+        // House's score exceeds 21 (bust)
+        else if (houseScore > 21) {
+            return HOUSE_BUSTED;
+        }
+        // Player's score is higher than the house's
+        else if (yourScore > houseScore) {
+            return YOUR_SCORE_HIGHER;
+        }
+        // House's score is higher than the player's
+        else if (yourScore < houseScore) {
+            return HOUSE_SCORE_HIGHER;
+        }
+        // Scores are equal (tie)
+        return TIE;
+    }
+
+    /**
+     * Method - Result Converter
+     * This method turns an outcome into the player's result at even money.
+     * Parameter: `outcome` is one of the settlement constants.
+     * Integer return type - Returns 1 if the player wins, -1 if the house wins, and 0 for a tie.
+     */
+    public static int evenMoneyResult(int outcome) {
+        switch (outcome) {
+            case HOUSE_BUSTED:
+            case YOUR_SCORE_HIGHER:
+                return 1;
+            case YOU_BUSTED:
+            case HOUSE_SCORE_HIGHER:
+                return -1;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Method - Result Describer
+     * This method gives the one-line text of an outcome, as shown in scripted and traced games.
+     * Parameter: `outcome` is one of the settlement constants.
+     * String return type - Returns who won and why, e.g. "House Wins (You Busted)".
+     */
+    public static String describeOutcome(int outcome) {
+        switch (outcome) {
+            case YOU_BUSTED:
+                return "House Wins (You Busted)";
+            case HOUSE_BUSTED:
+                return "You Win (House Busted)";
+            case YOUR_SCORE_HIGHER:
+                return "You Win (Your Score is Higher)";
+            case HOUSE_SCORE_HIGHER:
+                return "House Wins (House Score is Higher)";
+            default:
+                return "It's a Tie (Both Scores are Equal)";
+        }
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the cards that are still left in the deck
+     * No parameters
+     * Return type: CardPile
+     */
+    public CardPile getDeck() {
+        return deck; // Return the remaining deck
+    }
+
     /**
      * Method - Getter
      * This method gives the house's cards
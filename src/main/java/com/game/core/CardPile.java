@@ -1,6 +1,7 @@
 package com.game.core;
 
 import java.util.ArrayList;
+import java.util.Random;
 
 /**
  * CardPile.java
@@ -14,6 +15,9 @@ public class CardPile {
     // Instance variable of type ArrayList<Card>, which holds the cards in the pile
     private final ArrayList<Card> cards = new ArrayList<>();
 
+    // Instance variable of type Random, which picks the cards to remove. When it is null, Math.random is used
+    private final Random random;
+
     /**
      * Constructor
      * This is used to create a CardPile object and initializes the instance variable `cards`.
@@ -21,7 +25,18 @@ public class CardPile {
      * No return type, as constructors do not have a return type, even void.
      */
     public CardPile() {
-        // No additional initialization needed as the cards ArrayList is already initialized
+        this(null); // Cards are picked with Math.random
+    }
+
+    /**
+     * Constructor
+     * This is used to create a CardPile object whose random removals come from the given generator,
+     * so that a seeded generator always removes the same cards in the same order.
+     * Parameter: `random` is of type Random, or null to use Math.random.
+     * No return type, as constructors do not have a return type, even void.
+     */
+    public CardPile(Random random) {
+        this.random = random;
     }
 
     /**
@@ -48,7 +63,8 @@ public class CardPile {
         }
 
         // Generate a random index to select a card from the pile
-        int number = (int) (Math.random() * this.cards.size());
+        double roll = this.random == null ? Math.random() : this.random.nextDouble();
+        int number = (int) (roll * this.cards.size());
 
         // Remove and return the card at the randomly chosen index
         return this.cards.remove(number);
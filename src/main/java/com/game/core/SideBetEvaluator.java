@@ -0,0 +1,370 @@
+package com.game.core;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.function.LongToDoubleFunction;
+import java.util.stream.LongStream;
+
+/**
+ * SideBetEvaluator.java
+ * This class computes the exact probabilities and expected values of the Perfect Pairs and 21+3 side bets
+ * for a given remaining deck composition.
+ * Both bets are settled on the cards dealt by BlackjackGame.dealInitialCards: Perfect Pairs uses the player's
+ * first two cards, and 21+3 uses those two cards together with the house's face-up card.
+ * Since every card is drawn at random, those cards form a uniformly random subset of the remaining deck,
+ * so the odds are found by counting combinations instead of enumerating Card objects.
+ */
+public class SideBetEvaluator {
+
+    // Declaring symbolic constants for the Perfect Pairs outcomes (indexes into the probability array)
+    public static final int MIXED_PAIR = 0;
+    public static final int COLORED_PAIR = 1;
+    public static final int PERFECT_PAIR = 2;
+
+    // Declaring symbolic constants for the 21+3 outcomes (indexes into the probability array)
+    public static final int FLUSH = 0;
+    public static final int STRAIGHT = 1;
+    public static final int THREE_OF_A_KIND = 2;
+    public static final int STRAIGHT_FLUSH = 3;
+    public static final int SUITED_TRIPS = 4;
+
+    // Payouts (to 1) for each outcome, indexed by the constants above
+    private static final int[] PERFECT_PAIRS_PAYOUTS = {6, 12, 25};
+    private static final int[] TWENTY_ONE_PLUS_THREE_PAYOUTS = {5, 10, 30, 40, 100};
+
+    // Number of ranks (2 to Ace) and suits, and the mask covering all ranks of one suit
+    private static final int RANKS = 13;
+    private static final int SUITS = 4;
+    private static final int SUIT_BITS = (1 << RANKS) - 1;
+
+    // Largest composition supported by the combination table (eight decks)
+    private static final int MAX_CARDS = 8 * RANKS * SUITS;
+
+    // Deepest single-deck sweep allowed: 52 choose 6 is about 20 million states, 52 choose 7 would already be 134 million
+    public static final int MAX_SWEEP_DEPTH = 6;
+
+    // Precomputed table of binomial coefficients, CHOOSE[n][k] = n choose k
+    // Every k is filled for n up to 52 (single-deck sweeps), larger decks only need k up to 3
+    private static final long[][] CHOOSE = new long[MAX_CARDS + 1][RANKS * SUITS + 1];
+
+    // Precomputed rank masks of every three-card straight, including A-2-3 (the Ace plays low) and Q-K-A
+    private static final int[] STRAIGHTS = new int[RANKS - 1];
+
+    static {
+        // Build Pascal's triangle once so no combination is ever computed at evaluation time
+        for (int n = 0; n <= MAX_CARDS; n++) {
+            CHOOSE[n][0] = 1;
+            int maxK = n <= RANKS * SUITS ? n : 3;
+            for (int k = 1; k <= maxK; k++) {
+                CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + (k <= n - 1 ? CHOOSE[n - 1][k] : 0);
+            }
+        }
+
+        // Bit 0 is a 2 and bit 12 is an Ace, so A-2-3 is the Ace bit with the two lowest bits
+        STRAIGHTS[0] = (1 << (RANKS - 1)) | 0b11;
+        for (int low = 0; low < RANKS - 2; low++) {
+            STRAIGHTS[low + 1] = 0b111 << low;
+        }
+    }
+
+    /**
+     * Constructor
+     * This class only offers static methods, so it should not be instantiated.
+     */
+    private SideBetEvaluator() {
+    }
+
+    /**
+     * Method - Index Converter
+     * This method gives the position of a card inside a composition array or a single-deck bitmask.
+     * Each suit owns a block of 13 consecutive positions, ordered by rank from 2 to Ace.
+     * Parameter: `rank` is an integer from 2 to 14 and `suit` is an integer from 0 to 3.
+     * Return type: int
+     */
+    public static int indexOf(int rank, int suit) {
+        return suit * RANKS + (rank - 2);
+    }
+
+    /**
+     * Method - Composition Builder
+     * This method counts how many copies of each card are left in a pile, e.g. the remaining deck of a game.
+     * Parameter: `pile` is of type CardPile.
+     * Return type: int[] - 52 counts indexed by indexOf(rank, suit).
+     */
+    public static int[] compositionOf(CardPile pile) {
+        int[] counts = new int[RANKS * SUITS];
+        for (Card card : pile.getCards()) {
+            counts[indexOf(card.getRank(), card.getSuit())]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Method - Bitmask Builder
+     * This method encodes a single-deck pile as a 52-bit mask, one bit per card that is still in the pile.
+     * Parameter: `pile` is of type CardPile and must not hold the same card twice.
+     * Return type: long
+     */
+    public static long maskOf(CardPile pile) {
+        long mask = 0L;
+        for (Card card : pile.getCards()) {
+            long bit = 1L << indexOf(card.getRank(), card.getSuit());
+            // A second copy of a card cannot be represented by a single bit
+            if ((mask & bit) != 0) {
+                throw new IllegalArgumentException("Pile holds more than one copy of " + card.getRankString()
+                        + " of " + card.getSuitString() + ".");
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Method - Perfect Pairs Evaluator
+     * This method computes the Perfect Pairs odds for any composition, including multiple decks.
+     * Parameter: `counts` is an int[] of 52 counts indexed by indexOf(rank, suit).
+     * Return type: SideBetOdds
+     */
+    public static SideBetOdds perfectPairs(int[] counts) {
+        int total = checkedTotal(counts);
+        long perfect = 0, colored = 0, pairs = 0;
+
+        for (int r = 0; r < RANKS; r++) {
+            int clubs = counts[r], diamonds = counts[RANKS + r], hearts = counts[2 * RANKS + r], spades = counts[3 * RANKS + r];
+            perfect += CHOOSE[clubs][2] + CHOOSE[diamonds][2] + CHOOSE[hearts][2] + CHOOSE[spades][2];
+            // Clubs and Spades are black, Diamonds and Hearts are red
+            colored += (long) clubs * spades + (long) diamonds * hearts;
+            pairs += CHOOSE[clubs + diamonds + hearts + spades][2];
+        }
+
+        long[] ways = new long[3];
+        ways[PERFECT_PAIR] = perfect;
+        ways[COLORED_PAIR] = colored;
+        ways[MIXED_PAIR] = pairs - perfect - colored;
+        return new SideBetOdds(ways, CHOOSE[total][2], PERFECT_PAIRS_PAYOUTS);
+    }
+
+    /**
+     * Method - Perfect Pairs Evaluator
+     * This method computes the Perfect Pairs odds for a single-deck composition encoded as a 52-bit mask.
+     * A single deck can never hold a perfect pair, and every other pair is found by intersecting suit masks.
+     * Parameter: `mask` is a long with one bit per remaining card, as given by maskOf.
+     * Return type: SideBetOdds
+     */
+    public static SideBetOdds perfectPairs(long mask) {
+        checkMask(mask);
+        int clubs = suitMask(mask, Card.CLUB), diamonds = suitMask(mask, Card.DIAMOND);
+        int hearts = suitMask(mask, Card.HEART), spades = suitMask(mask, Card.SPADE);
+
+        long colored = Integer.bitCount(clubs & spades) + Integer.bitCount(diamonds & hearts);
+        long mixed = Integer.bitCount(clubs & diamonds) + Integer.bitCount(clubs & hearts)
+                + Integer.bitCount(spades & diamonds) + Integer.bitCount(spades & hearts);
+
+        long[] ways = new long[3];
+        ways[COLORED_PAIR] = colored;
+        ways[MIXED_PAIR] = mixed;
+        return new SideBetOdds(ways, CHOOSE[Long.bitCount(mask)][2], PERFECT_PAIRS_PAYOUTS);
+    }
+
+    /**
+     * Method - 21+3 Evaluator
+     * This method computes the 21+3 odds for any composition, including multiple decks.
+     * Parameter: `counts` is an int[] of 52 counts indexed by indexOf(rank, suit).
+     * Return type: SideBetOdds
+     */
+    public static SideBetOdds twentyOnePlusThree(int[] counts) {
+        int total = checkedTotal(counts);
+        int[] rankCounts = new int[RANKS];
+        long suitedTrips = 0, trips = 0, straightFlushes = 0, straights = 0, flushes = 0;
+
+        for (int s = 0; s < SUITS; s++) {
+            int suitCount = 0;
+            for (int r = 0; r < RANKS; r++) {
+                int n = counts[s * RANKS + r];
+                suitCount += n;
+                rankCounts[r] += n;
+                suitedTrips += CHOOSE[n][3];
+            }
+            flushes += CHOOSE[suitCount][3];
+            straightFlushes += straightWays(counts, s * RANKS);
+        }
+        for (int r = 0; r < RANKS; r++) {
+            trips += CHOOSE[rankCounts[r]][3];
+        }
+        straights = straightWays(rankCounts, 0);
+
+        long[] ways = new long[5];
+        ways[SUITED_TRIPS] = suitedTrips;
+        ways[STRAIGHT_FLUSH] = straightFlushes;
+        ways[THREE_OF_A_KIND] = trips - suitedTrips;
+        ways[STRAIGHT] = straights - straightFlushes;
+        ways[FLUSH] = flushes - straightFlushes - suitedTrips;
+        return new SideBetOdds(ways, CHOOSE[total][3], TWENTY_ONE_PLUS_THREE_PAYOUTS);
+    }
+
+    /**
+     * Method - 21+3 Evaluator
+     * This method computes the 21+3 odds for a single-deck composition encoded as a 52-bit mask.
+     * A single deck can never hold suited trips, and the other hands are counted with mask intersections.
+     * Parameter: `mask` is a long with one bit per remaining card, as given by maskOf.
+     * Return type: SideBetOdds
+     */
+    public static SideBetOdds twentyOnePlusThree(long mask) {
+        checkMask(mask);
+        int[] suits = new int[SUITS];
+        int[] rankCounts = new int[RANKS];
+        long straightFlushes = 0, flushes = 0;
+
+        for (int s = 0; s < SUITS; s++) {
+            suits[s] = suitMask(mask, s);
+            flushes += CHOOSE[Integer.bitCount(suits[s])][3];
+            for (int straight : STRAIGHTS) {
+                if ((suits[s] & straight) == straight) {
+                    straightFlushes++;
+                }
+            }
+        }
+
+        // A rank is present three or more times when it appears in at least three of the four suit masks
+        long trips = 0;
+        for (int a = 0; a < SUITS; a++) {
+            for (int b = a + 1; b < SUITS; b++) {
+                for (int c = b + 1; c < SUITS; c++) {
+                    trips += Integer.bitCount(suits[a] & suits[b] & suits[c]);
+                }
+            }
+        }
+
+        for (int r = 0; r < RANKS; r++) {
+            rankCounts[r] = ((suits[0] >>> r) & 1) + ((suits[1] >>> r) & 1) + ((suits[2] >>> r) & 1) + ((suits[3] >>> r) & 1);
+        }
+
+        long[] ways = new long[5];
+        ways[STRAIGHT_FLUSH] = straightFlushes;
+        ways[THREE_OF_A_KIND] = trips;
+        ways[STRAIGHT] = straightWays(rankCounts, 0) - straightFlushes;
+        ways[FLUSH] = flushes - straightFlushes;
+        return new SideBetOdds(ways, CHOOSE[Long.bitCount(mask)][3], TWENTY_ONE_PLUS_THREE_PAYOUTS);
+    }
+
+    /**
+     * Method - Perfect Pairs Sweep
+     * This method evaluates Perfect Pairs for every single-deck state with exactly `removed` cards already dealt.
+     * There are 52 choose `removed` such states (2.6 million at 5, 20 million at 6), so depths above MAX_SWEEP_DEPTH are rejected.
+     * Parameter: `removed` is the number of cards missing from a full deck, from 0 to MAX_SWEEP_DEPTH.
+     * Return type: DoubleSummaryStatistics - The spread of the expected value across all those states.
+     */
+    public static DoubleSummaryStatistics sweepPerfectPairs(int removed) {
+        return sweep(removed, mask -> perfectPairs(mask).getExpectedValue());
+    }
+
+    /**
+     * Method - 21+3 Sweep
+     * This method evaluates 21+3 for every single-deck state with exactly `removed` cards already dealt.
+     * There are 52 choose `removed` such states (2.6 million at 5, 20 million at 6), so depths above MAX_SWEEP_DEPTH are rejected.
+     * Parameter: `removed` is the number of cards missing from a full deck, from 0 to MAX_SWEEP_DEPTH.
+     * Return type: DoubleSummaryStatistics - The spread of the expected value across all those states.
+     */
+    public static DoubleSummaryStatistics sweepTwentyOnePlusThree(int removed) {
+        return sweep(removed, mask -> twentyOnePlusThree(mask).getExpectedValue());
+    }
+
+    /**
+     * Method - Sweep Helper
+     * This method visits every way of removing `removed` cards from a full deck in parallel.
+     * Each state is found directly from its position in the combination order, so the work splits evenly across threads.
+     * Parameters: `removed` is the number of dealt cards, `evaluator` maps a remaining-deck mask to a value.
+     * Return type: DoubleSummaryStatistics
+     */
+    private static DoubleSummaryStatistics sweep(int removed, LongToDoubleFunction evaluator) {
+        int deckSize = RANKS * SUITS;
+        // The number of states grows as 52 choose `removed`, so deeper sweeps would not complete
+        if (removed < 0 || removed > MAX_SWEEP_DEPTH) {
+            throw new IllegalArgumentException("Sweep depth must be between 0 and " + MAX_SWEEP_DEPTH + ", got " + removed + ".");
+        }
+        long fullDeck = (1L << deckSize) - 1;
+        return LongStream.range(0, CHOOSE[deckSize][removed])
+                .parallel()
+                .mapToDouble(rank -> evaluator.applyAsDouble(fullDeck & ~unrankCombination(rank, removed, deckSize)))
+                .collect(DoubleSummaryStatistics::new, DoubleSummaryStatistics::accept, DoubleSummaryStatistics::combine);
+    }
+
+    /**
+     * Method - Combination Decoder
+     * This method turns a position in the combinatorial number system into the matching set of `k` cards.
+     * Parameters: `rank` is the position, `k` is the size of the set, `n` is the number of available cards.
+     * Return type: long - A mask with exactly `k` bits set.
+     */
+    private static long unrankCombination(long rank, int k, int n) {
+        long mask = 0L;
+        int candidate = n - 1;
+        for (int i = k; i > 0; i--) {
+            // Find the largest card position whose combination count still fits into the remaining rank
+            while (CHOOSE[candidate][i] > rank) {
+                candidate--;
+            }
+            mask |= 1L << candidate;
+            rank -= CHOOSE[candidate][i];
+            candidate--;
+        }
+        return mask;
+    }
+
+    /**
+     * Method - Straight Counter
+     * This method counts the three-card straights that can be formed from thirteen consecutive rank counts.
+     * Parameters: `counts` holds the rank counts, starting at position `offset` with the 2.
+     * Return type: long
+     */
+    private static long straightWays(int[] counts, int offset) {
+        long ways = (long) counts[offset + RANKS - 1] * counts[offset] * counts[offset + 1]; // A-2-3
+        for (int low = 0; low < RANKS - 2; low++) {
+            ways += (long) counts[offset + low] * counts[offset + low + 1] * counts[offset + low + 2];
+        }
+        return ways;
+    }
+
+    /**
+     * Method - Suit Extractor
+     * This method gives the 13-bit rank mask of one suit from a single-deck mask.
+     * Parameters: `mask` is the deck mask, `suit` is an integer from 0 to 3.
+     * Return type: int
+     */
+    private static int suitMask(long mask, int suit) {
+        return (int) (mask >>> (suit * RANKS)) & SUIT_BITS;
+    }
+
+    /**
+     * Method - Mask Checker
+     * This method validates a single-deck mask, which may only use the 52 lowest bits.
+     * Parameter: `mask` is the deck mask.
+     * No return type (void).
+     */
+    private static void checkMask(long mask) {
+        if (mask >>> (RANKS * SUITS) != 0) {
+            throw new IllegalArgumentException("A deck mask may only use the lowest 52 bits.");
+        }
+    }
+
+    /**
+     * Method - Composition Checker
+     * This method validates a composition and returns the number of cards in it.
+     * Parameter: `counts` is an int[] of 52 counts.
+     * Return type: int
+     */
+    private static int checkedTotal(int[] counts) {
+        if (counts.length != RANKS * SUITS) {
+            throw new IllegalArgumentException("A composition needs exactly 52 counts.");
+        }
+        int total = 0;
+        for (int n : counts) {
+            if (n < 0) {
+                throw new IllegalArgumentException("Card counts cannot be negative.");
+            }
+            total += n;
+        }
+        if (total > MAX_CARDS) {
+            throw new IllegalArgumentException("Compositions larger than eight decks are not supported.");
+        }
+        return total;
+    }
+}
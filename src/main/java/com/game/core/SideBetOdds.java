@@ -0,0 +1,99 @@
+package com.game.core;
+
+/**
+ * SideBetOdds.java
+ * This class holds the exact result of evaluating a side bet against one deck composition.
+ * It stores how many card combinations produce each winning outcome, along with the probabilities and expected value.
+ */
+public class SideBetOdds {
+
+    // Declaring Instance Variables
+
+    // Instance Variable of type long[] which holds the number of winning combinations for each outcome
+    private final long[] ways;
+
+    // Instance Variable of type long which holds the total number of combinations that can be dealt
+    private final long totalWays;
+
+    // Instance Variable of type int[] which holds the payout (to 1) of each outcome
+    private final int[] payouts;
+
+    // Instance Variable of type double which holds the expected value per unit bet
+    private final double expectedValue;
+
+    /**
+     * Constructor
+     * This is used to create a SideBetOdds object from combination counts.
+     * Parameter: `ways` is a long[] holding the number of combinations for each winning outcome.
+     * Parameter: `totalWays` is the total number of combinations that can be dealt.
+     * Parameter: `payouts` is an int[] holding the payout (to 1) of each outcome, in the same order as `ways`.
+     */
+    SideBetOdds(long[] ways, long totalWays, int[] payouts) {
+        // Check that the bet can actually be dealt from the composition
+        if (totalWays <= 0) {
+            throw new IllegalArgumentException("Not enough cards to settle the side bet.");
+        }
+        this.ways = ways;
+        this.totalWays = totalWays;
+        this.payouts = payouts;
+
+        // Every winning combination pays its payout, every other combination loses the unit bet
+        long winningWays = 0;
+        double returned = 0;
+        for (int i = 0; i < ways.length; i++) {
+            winningWays += ways[i];
+            returned += (double) ways[i] * payouts[i];
+        }
+        this.expectedValue = (returned - (totalWays - winningWays)) / totalWays;
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the number of combinations that produce an outcome.
+     * Parameter: `outcome` is one of the outcome constants of SideBetEvaluator.
+     * Return type: long
+     */
+    public long getWays(int outcome) {
+        return ways[outcome];
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the total number of combinations that can be dealt.
+     * No parameters
+     * Return type: long
+     */
+    public long getTotalWays() {
+        return totalWays;
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the exact probability of an outcome.
+     * Parameter: `outcome` is one of the outcome constants of SideBetEvaluator.
+     * Return type: double
+     */
+    public double getProbability(int outcome) {
+        return (double) ways[outcome] / totalWays;
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the payout (to 1) of an outcome.
+     * Parameter: `outcome` is one of the outcome constants of SideBetEvaluator.
+     * Return type: int
+     */
+    public int getPayout(int outcome) {
+        return payouts[outcome];
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the expected value of the bet per unit wagered (negative values favour the house).
+     * No parameters
+     * Return type: double
+     */
+    public double getExpectedValue() {
+        return expectedValue;
+    }
+}
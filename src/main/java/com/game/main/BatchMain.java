@@ -0,0 +1,82 @@
+package com.game.main;
+
+/**
+ * BatchMain.java
+ * This is the non-interactive entry point, which plays a scripted list of games and prints one result line per game.
+ * Each game is a string of decisions such as "yyn", given either as arguments or as the lines of a file:
+ *     BatchMain yn n yyn
+ *     BatchMain --file decisions.txt
+ * In a file, blank lines and lines starting with '#' are skipped.
+ * With -Dblackjack.timing=true, the time from JVM start until the first hand is dealt is printed to standard error.
+ */
+
+
+import com.game.core.BlackjackGame;
+import com.game.ui.ScriptedUI;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BatchMain {
+
+    public static void main(String[] args) {
+        // Without any games there is nothing to play, so explain how to use the entry point
+        if (args.length == 0) {
+            System.out.println("Usage: BatchMain <decisions>... | BatchMain --file <path>");
+            System.exit(1);
+        }
+
+        // Read the scripted games from the file or directly from the arguments
+        List<String> games;
+        if (args[0].equals("--file")) {
+            if (args.length != 2) {
+                System.out.println("Usage: BatchMain --file <path>");
+                System.exit(1);
+            }
+            try {
+                games = ScriptedUI.readScript(args[1]);
+            } catch (IOException e) {
+                System.out.println("Could not read " + args[1] + ": " + e.getMessage());
+                System.exit(1);
+                return;
+            }
+        } else {
+            games = Arrays.asList(args);
+        }
+
+        // Check every script before playing, so a typo stops the run instead of playing wrong games
+        List<ScriptedUI> uis = new ArrayList<>();
+        try {
+            for (String decisions : games) {
+                uis.add(new ScriptedUI(decisions));
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.exit(1);
+        }
+
+        // Play every scripted game through the full lifecycle, the same way Main does
+        boolean timing = Boolean.getBoolean("blackjack.timing");
+        StringBuilder output = new StringBuilder();
+        for (int i = 0; i < uis.size(); i++) {
+            ScriptedUI ui = uis.get(i);
+            BlackjackGame game = new BlackjackGame(ui);
+            game.start();
+
+            // Report when the first hand has been dealt, measured from the moment the JVM started
+            if (timing && i == 0) {
+                long dealt = System.currentTimeMillis(); // Taken before the management classes are loaded
+                System.err.println("time-to-first-hand-ms " + (dealt - ManagementFactory.getRuntimeMXBean().getStartTime()));
+            }
+
+            game.play();
+            game.end();
+            output.append("Game ").append(i + 1).append(": ").append(ui.getResult()).append('\n');
+        }
+
+        // Print all results at once so large scripts do not pay for one write per game
+        System.out.print(output);
+    }
+}
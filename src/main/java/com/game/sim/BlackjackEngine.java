@@ -0,0 +1,21 @@
+package com.game.sim;
+
+/**
+ * BlackjackEngine.java
+ * Sets the function every way of playing a hand must provide, so that engines can be compared with each other.
+ * The differential test harness compares engines through the HandRecorder they report to.
+ */
+public interface BlackjackEngine {
+    /**
+     * Method - Hand Player
+     * This method plays one complete hand and reports every table it shows, and the outcome, to `recorder`.
+     * The cards must be dealt by java.util.Random seeded with `seed`, picking each card the way CardPile.removeRandom does,
+     * so that every engine deals the same cards for the same seed.
+     * Implementations are called from many threads at once and must not keep state between hands.
+     * Parameter: `seed` is the seed of the dealing generator.
+     * Parameter: `decisions` is a String of 'y' (hit) and 'n' (stand) characters. Once it runs out the player stands.
+     * Parameter: `recorder` receives the scores each time the table changes and the final outcome.
+     * No return type (void).
+     */
+    public void play(long seed, String decisions, HandRecorder recorder);
+}
@@ -0,0 +1,115 @@
+package com.game.sim;
+
+import com.game.core.BlackjackGame;
+import java.util.Random;
+
+/**
+ * FastBlackjackEngine.java
+ * This engine plays the same hands as BlackjackGame without creating Card, CardPile or UserInterface objects.
+ * The deck is a copy of Shoe.ONE_DECK, card values in the same order BlackjackGame builds it, and both scores are kept
+ * up to date as cards are drawn instead of being recalculated from the whole hand.
+ */
+public class FastBlackjackEngine implements BlackjackEngine {
+
+    /**
+     * Method - Hand Player
+     * This method plays one hand following the turn order of BlackjackGame.start, play and end.
+     * Parameters: `seed` is the seed of the dealing generator, `decisions` holds the scripted player decisions,
+     * `recorder` receives every table shown and the outcome.
+     * No return type (void).
+     */
+    @Override
+    public void play(long seed, String decisions, HandRecorder recorder) {
+        Random random = new Random(seed);
+        byte[] deck = Shoe.ONE_DECK.clone();
+        int deckSize = deck.length;
+
+        // Each hand is kept as its score and the number of Aces still counted as 11
+        int houseScore = 0, houseAces = 0, yourScore = 0, yourAces = 0;
+        int next = 0;
+
+        // Deal two cards to the house and then two to the player
+        for (int i = 0; i < 4; i++) {
+            int value = draw(random, deck, deckSize--);
+            if (i < 2) {
+                houseScore += value;
+                houseAces += value == 11 ? 1 : 0;
+            } else {
+                yourScore += value;
+                yourAces += value == 11 ? 1 : 0;
+            }
+        }
+        // Two Aces make 22, so one of them has to count as 1
+        if (houseScore > 21) {
+            houseScore -= 10;
+            houseAces--;
+        }
+        if (yourScore > 21) {
+            yourScore -= 10;
+            yourAces--;
+        }
+        recorder.record(houseScore, yourScore);
+
+        // The house and the player take turns until both are done, the house always moving first
+        boolean houseDone = false, playerDone = false;
+        while (!houseDone || !playerDone) {
+            if (deckSize == 0) {
+                break;
+            }
+
+            if (!houseDone) {
+                if (houseScore < 17) {
+                    int value = draw(random, deck, deckSize--);
+                    houseScore += value;
+                    houseAces += value == 11 ? 1 : 0;
+                    while (houseScore > 21 && houseAces > 0) {
+                        houseScore -= 10;
+                        houseAces--;
+                    }
+                    recorder.record(houseScore, yourScore);
+                } else {
+                    houseDone = true;
+                }
+            }
+
+            if (!playerDone) {
+                // The decision is read before the deck is checked, exactly like BlackjackGame.playerPlays
+                boolean hit = next < decisions.length() && decisions.charAt(next++) == 'y';
+                if (hit && deckSize > 0) {
+                    int value = draw(random, deck, deckSize--);
+                    yourScore += value;
+                    yourAces += value == 11 ? 1 : 0;
+                    while (yourScore > 21 && yourAces > 0) {
+                        yourScore -= 10;
+                        yourAces--;
+                    }
+                    if (yourScore > 21) {
+                        playerDone = true;
+                        houseDone = true;
+                    }
+                    recorder.record(houseScore, yourScore);
+                } else {
+                    playerDone = true;
+                }
+            }
+        }
+
+        // Show the final table and settle with the same rules as SimpleUI.gameOver
+        recorder.record(houseScore, yourScore);
+        recorder.settle(BlackjackGame.settle(yourScore, houseScore));
+    }
+
+    /**
+     * Method - Card Picker
+     * This method removes a card the same way CardPile.removeRandom does: it picks a random position
+     * and shifts the following cards down by one, so the remaining order matches the ArrayList.
+     * Parameters: `random` is the dealing generator, `deck` holds the cards, `size` is how many cards are left.
+     * Return type: int - The value of the removed card.
+     */
+    private static int draw(Random random, byte[] deck, int size) {
+        int index = (int) (random.nextDouble() * size);
+        int value = deck[index];
+        System.arraycopy(deck, index + 1, deck, index, size - index - 1);
+        return value;
+    }
+}
@@ -0,0 +1,23 @@
+package com.game.sim;
+
+/**
+ * HandRecorder.java
+ * Sets the functions a BlackjackEngine calls to report what it shows while playing one hand.
+ */
+public interface HandRecorder {
+    /**
+     * Method - Recorder
+     * This method is called each time the table changes, with the scores shown at that point of the hand.
+     * Parameters: `houseScore` and `yourScore` are the current scores of the house and the player.
+     * No return type (void).
+     */
+    public void record(int houseScore, int yourScore);
+
+    /**
+     * Method - Settlement
+     * This method is called once at the end of the hand with its outcome.
+     * Parameter: `outcome` is a settlement constant of BlackjackGame, as returned by BlackjackGame.settle.
+     * No return type (void).
+     */
+    public void settle(int outcome);
+}
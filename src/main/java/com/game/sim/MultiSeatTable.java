@@ -0,0 +1,192 @@
+package com.game.sim;
+
+import com.game.core.BlackjackGame;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * MultiSeatTable.java
+ * This class plays rounds for several seats against one house, all dealt from one shared Shoe.
+ * Each round the shoe deals round-robin: one card to every seat, the house's face-down card, a second card to
+ * every seat and then the house's upcard. The seats then decide in batches: every seat still playing decides at once
+ * (in parallel when enabled), and the hits are dealt in seat order so the shoe is always used the same way.
+ * The house plays once per round, following BlackjackGame.housePlays, and every seat is settled with BlackjackGame.settle.
+ * Every seat is kept in a few array slots (a packed hand and two flags), so a seat costs only a handful of bytes.
+ */
+public class MultiSeatTable {
+
+    // Declaring symbolic constants for the result of a seat
+    public static final byte HOUSE_WINS = -1;
+    public static final byte TIE = 0;
+    public static final byte SEAT_WINS = 1;
+
+    // Declaring Instance Variables
+
+    // Instance Variable of type Shoe which every seat and the house are dealt from
+    private final Shoe shoe;
+
+    // Instance Variable of type int which holds the score the house stands on (BlackjackGame uses 17)
+    private final int dealerThreshold;
+
+    // Instance Variable of type boolean which decides whether the seats' policies are evaluated in parallel
+    private final boolean parallelPolicies;
+
+    // Instance Variable of type SeatPolicy[] which holds the decision function of each seat
+    private final SeatPolicy[] policies;
+
+    // Instance Variables which hold each seat's packed hand (see PackedHand), whether it is still playing,
+    // its decision in the current batch and its result in the last round
+    private final int[] hands;
+    private final boolean[] playing;
+    private final boolean[] decisions;
+    private final byte[] results;
+
+    // Instance Variable of type int which holds the house's packed hand
+    private int houseHand;
+
+    /**
+     * Constructor
+     * This is used to create a MultiSeatTable object where every seat uses the same policy until changed with setPolicy.
+     * Parameter: `seats` is the number of seats, at least 1.
+     * Parameter: `shoe` is the configured Shoe shared by the whole table.
+     * Parameter: `dealerThreshold` is the score the house stands on.
+     * Parameter: `policy` is the starting SeatPolicy of every seat.
+     * Parameter: `parallelPolicies` is true to evaluate the seats' decisions of each batch in parallel.
+     * This only pays off for policies that are expensive to evaluate, simple threshold policies are faster one after another.
+     */
+    public MultiSeatTable(int seats, Shoe shoe, int dealerThreshold, SeatPolicy policy, boolean parallelPolicies) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("A table needs at least one seat.");
+        }
+        this.shoe = shoe;
+        this.dealerThreshold = dealerThreshold;
+        this.parallelPolicies = parallelPolicies;
+        this.policies = new SeatPolicy[seats];
+        Arrays.fill(policies, policy);
+        this.hands = new int[seats];
+        this.playing = new boolean[seats];
+        this.decisions = new boolean[seats];
+        this.results = new byte[seats];
+    }
+
+    /**
+     * Method - Setter
+     * This method changes the policy of one seat.
+     * Parameters: `seat` is the seat number starting at 0, `policy` is its new SeatPolicy.
+     * No return type (void).
+     */
+    public void setPolicy(int seat, SeatPolicy policy) {
+        policies[seat] = policy;
+    }
+
+    /**
+     * Method - Round Player
+     * This method plays one full round for every seat and the house.
+     * No parameters
+     * No return type (void). The outcome of each seat is available from getResult and getScore.
+     */
+    public void playRound() {
+        int seats = hands.length;
+        shoe.shuffleIfCut();
+
+        // Deal round-robin: every seat, the house's face-down card, every seat again, then the house's upcard
+        Arrays.fill(hands, PackedHand.EMPTY);
+        for (int s = 0; s < seats; s++) {
+            hands[s] = PackedHand.add(hands[s], shoe.deal());
+        }
+        houseHand = PackedHand.add(PackedHand.EMPTY, shoe.deal());
+        for (int s = 0; s < seats; s++) {
+            hands[s] = PackedHand.add(hands[s], shoe.deal());
+        }
+        int upcard = shoe.deal();
+        houseHand = PackedHand.add(houseHand, upcard);
+
+        // Every seat decides in batches until all seats have stood or busted
+        Arrays.fill(playing, true);
+        boolean anyPlaying = true;
+        while (anyPlaying) {
+            if (parallelPolicies) {
+                IntStream.range(0, seats).parallel().forEach(s -> decide(s, upcard));
+            } else {
+                for (int s = 0; s < seats; s++) {
+                    decide(s, upcard);
+                }
+            }
+
+            // Deal the hits in seat order so the shoe is used the same way whether decisions ran in parallel or not
+            anyPlaying = false;
+            for (int s = 0; s < seats; s++) {
+                if (!playing[s]) {
+                    continue;
+                }
+                if (decisions[s]) {
+                    hands[s] = PackedHand.add(hands[s], shoe.deal());
+                    playing[s] = PackedHand.score(hands[s]) <= 21; // A bust ends the seat's turn
+                } else {
+                    playing[s] = false;
+                }
+                anyPlaying |= playing[s];
+            }
+        }
+
+        // The house plays once for the whole table, unless every seat has already busted
+        boolean anyStanding = false;
+        for (int s = 0; s < seats; s++) {
+            anyStanding |= PackedHand.score(hands[s]) <= 21;
+        }
+        while (anyStanding && PackedHand.score(houseHand) < dealerThreshold) {
+            houseHand = PackedHand.add(houseHand, shoe.deal());
+        }
+
+        // Settle each seat with the same rules as SimpleUI.gameOver
+        int houseScore = PackedHand.score(houseHand);
+        for (int s = 0; s < seats; s++) {
+            results[s] = (byte) BlackjackGame.evenMoneyResult(BlackjackGame.settle(PackedHand.score(hands[s]), houseScore));
+        }
+    }
+
+    // This method records the decision of one seat for the current batch, seats that are done always stand
+    private void decide(int seat, int upcard) {
+        decisions[seat] = playing[seat] && policies[seat].hit(PackedHand.score(hands[seat]), PackedHand.isSoft(hands[seat]), upcard);
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the result of a seat in the last round.
+     * Parameter: `seat` is the seat number starting at 0.
+     * Return type: byte - SEAT_WINS, HOUSE_WINS or TIE.
+     */
+    public byte getResult(int seat) {
+        return results[seat];
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the final score of a seat in the last round.
+     * Parameter: `seat` is the seat number starting at 0.
+     * Return type: int
+     */
+    public int getScore(int seat) {
+        return PackedHand.score(hands[seat]);
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the house's final score in the last round.
+     * No parameters
+     * Return type: int
+     */
+    public int getHouseScore() {
+        return PackedHand.score(houseHand);
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the number of seats at the table.
+     * No parameters
+     * Return type: int
+     */
+    public int getSeats() {
+        return hands.length;
+    }
+}
@@ -0,0 +1,51 @@
+package com.game.sim;
+
+/**
+ * PackedHand.java
+ * This class stores a whole hand in one int, so simulators can keep many hands without any objects.
+ * A hand is packed as (hard total << 1) | hasAce, where every Ace counts 1 in the hard total.
+ * The score follows BlackjackGame.calculateScore: one Ace counts 11 whenever that does not go over 21.
+ */
+public final class PackedHand {
+
+    // The packed value of a hand with no cards
+    public static final int EMPTY = 0;
+
+    /**
+     * Constructor
+     * This class only offers static methods, so it should not be instantiated.
+     */
+    private PackedHand() {
+    }
+
+    /**
+     * Method - Adder
+     * This method adds a card to a packed hand.
+     * Parameters: `hand` is the packed hand, `value` is the card value with an Ace as 11.
+     * Return type: int - The new packed hand.
+     */
+    public static int add(int hand, int value) {
+        return value == 11 ? (((hand >> 1) + 1) << 1) | 1 : (((hand >> 1) + value) << 1) | (hand & 1);
+    }
+
+    /**
+     * Method - Score Calculator
+     * This method gives the best score of a packed hand.
+     * Parameter: `hand` is the packed hand.
+     * Return type: int
+     */
+    public static int score(int hand) {
+        int hard = hand >> 1;
+        return (hand & 1) == 1 && hard <= 11 ? hard + 10 : hard;
+    }
+
+    /**
+     * Method - Checker
+     * This method checks if a packed hand currently counts an Ace as 11.
+     * Parameter: `hand` is the packed hand.
+     * Return type: boolean
+     */
+    public static boolean isSoft(int hand) {
+        return (hand & 1) == 1 && (hand >> 1) <= 11;
+    }
+}
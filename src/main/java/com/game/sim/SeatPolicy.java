@@ -0,0 +1,18 @@
+package com.game.sim;
+
+/**
+ * SeatPolicy.java
+ * Sets the decision function a seat at a MultiSeatTable uses instead of asking a UserInterface.
+ */
+public interface SeatPolicy {
+    /**
+     * Method - Seat Decision
+     * This method decides whether the seat draws another card.
+     * Policies of different seats may be called at the same time from different threads.
+     * Parameter: `score` is the seat's current score, counted like BlackjackGame.calculateScore.
+     * Parameter: `soft` is true when an Ace in the hand currently counts as 11.
+     * Parameter: `upcard` is the value of the house's face-up card, with an Ace worth 11.
+     * Return type: boolean - true to draw another card, false to stand.
+     */
+    public boolean hit(int score, boolean soft, int upcard);
+}
@@ -0,0 +1,163 @@
+package com.game.sim;
+
+import java.util.SplittableRandom;
+
+/**
+ * Shoe.java
+ * This class is a multi-deck shoe of card values dealt from the top, with a cut card that triggers a reshuffle.
+ * The array is kept when the shoe is resized to the same or fewer decks, so one shoe can be reused for many runs.
+ * Card values are 2 to 10, with an Ace stored as 11.
+ * If a round deals the last card of the shoe, only the discards of earlier rounds are reshuffled, the cards of the
+ * current round stay out of the shoe until it ends, so no card can be in play twice.
+ */
+public class Shoe {
+
+    // Card values of one deck, in the order BlackjackGame adds the cards, shared with FastBlackjackEngine and never modified
+    static final byte[] ONE_DECK = new byte[52];
+
+    static {
+        int i = 0;
+        for (int rank = 2; rank < 15; rank++) {
+            byte value = (byte) (rank == 14 ? 11 : Math.min(rank, 10));
+            for (int suit = 0; suit < 4; suit++) {
+                ONE_DECK[i++] = value;
+            }
+        }
+    }
+
+    // Declaring Instance Variables
+
+    // Instance Variable of type SplittableRandom which shuffles the shoe
+    private SplittableRandom random;
+
+    // Instance Variable of type byte[] which holds the cards, grown only when more decks are needed
+    private byte[] cards = new byte[0];
+
+    // Instance Variables of type int which hold the shoe size, the next card to deal, where the cut card sits
+    // and the first card of the current round
+    private int size;
+    private int next;
+    private int cutCard;
+    private int roundStart;
+
+    /**
+     * Constructor
+     * This is used to create a Shoe object with its own random stream and no cards until configure is called.
+     * Parameter: `random` is of type SplittableRandom, and should not be shared with other threads.
+     * It may be null if setRandom is called before configure.
+     */
+    public Shoe(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Method - Setter
+     * This method switches the shoe to another random stream for all later shuffles, e.g. one stream per sweep point,
+     * so that the results of a point do not depend on which thread runs it.
+     * Parameter: `random` is of type SplittableRandom, and should not be shared with other threads.
+     * No return type (void).
+     */
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Method - Setup
+     * This method fills the shoe with fresh decks and shuffles it.
+     * Parameter: `decks` is the number of decks, at least 1.
+     * Parameter: `penetration` is the fraction of the shoe dealt before it is reshuffled, above 0 and at most 1.
+     * No return type (void).
+     */
+    public void configure(int decks, double penetration) {
+        // Check the rules before touching the cards, and that there is a random stream to shuffle with
+        if (decks < 1) {
+            throw new IllegalArgumentException("A shoe needs at least one deck.");
+        }
+        if (!(penetration > 0 && penetration <= 1)) {
+            throw new IllegalArgumentException("Penetration must be above 0 and at most 1.");
+        }
+        if (random == null) {
+            throw new IllegalStateException("The shoe needs a random stream, call setRandom before configure.");
+        }
+        size = decks * ONE_DECK.length;
+        if (cards.length < size) {
+            cards = new byte[size];
+        }
+        for (int d = 0; d < decks; d++) {
+            System.arraycopy(ONE_DECK, 0, cards, d * ONE_DECK.length, ONE_DECK.length);
+        }
+        cutCard = Math.max(1, (int) (size * penetration));
+        roundStart = 0;
+        shuffle();
+    }
+
+    /**
+     * Method - Round Starter
+     * This method starts a new round, reshuffling the shoe if the cut card was reached.
+     * It is called between rounds, never during one, since every card dealt after it counts as in play.
+     * No parameters
+     * No return type (void).
+     */
+    public void shuffleIfCut() {
+        checkConfigured();
+        if (next >= cutCard) {
+            shuffle();
+        }
+        roundStart = next;
+    }
+
+    /**
+     * Method - Dealer
+     * This method deals the next card. If a long round uses up the whole shoe, the discards are reshuffled on the spot.
+     * No parameters
+     * Return type: int - The value of the card, with an Ace as 11.
+     */
+    public int deal() {
+        checkConfigured();
+        if (next == size) {
+            reshuffleDiscards();
+        }
+        return cards[next++];
+    }
+
+    // This method fails clearly instead of with an index error when the shoe was never configured
+    private void checkConfigured() {
+        if (size == 0) {
+            throw new IllegalStateException("The shoe has no cards, call configure before dealing.");
+        }
+    }
+
+    // This method moves the cards of the current round to the front and shuffles only the discards behind them
+    private void reshuffleDiscards() {
+        int discards = roundStart, inPlay = size - roundStart;
+        if (discards == 0) {
+            throw new IllegalStateException("One round used all " + size + " cards of the shoe, use more decks.");
+        }
+
+        // Swap the discards at the front with the cards in play at the back, which only needs the smaller count of swaps
+        int from = Math.max(discards, inPlay);
+        for (int i = 0; i < Math.min(discards, inPlay); i++) {
+            byte card = cards[i];
+            cards[i] = cards[from + i];
+            cards[from + i] = card;
+        }
+        shuffle(inPlay);
+        roundStart = 0;
+    }
+
+    // This method shuffles the whole shoe and starts dealing from the top
+    private void shuffle() {
+        shuffle(0);
+    }
+
+    // This method shuffles the cards from `from` to the end with a Fisher-Yates shuffle and deals from `from` next
+    private void shuffle(int from) {
+        for (int i = size - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            byte card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+        next = from;
+    }
+}
@@ -0,0 +1,97 @@
+package com.game.sim;
+
+import com.game.core.BlackjackGame;
+import java.util.SplittableRandom;
+
+/**
+ * ShoeSimulator.java
+ * This class plays hands with threshold rules from a multi-deck shoe as fast as possible.
+ * One simulator is kept per worker thread and reused for every point it runs, so the shoe array is created once
+ * instead of once per point. Each point brings its own random stream, so its result does not depend on the thread.
+ * Hands are settled with BlackjackGame.settle, like SimpleUI.gameOver, and paid at even money.
+ */
+public class ShoeSimulator {
+
+    // Declaring Instance Variables
+
+    // Instance Variable of type Shoe which deals the cards, reconfigured for every point
+    private final Shoe shoe;
+
+    /**
+     * Constructor
+     * This is used to create a ShoeSimulator object. Its shoe is given a random stream by every call to run.
+     * No parameters
+     */
+    public ShoeSimulator() {
+        this.shoe = new Shoe(null);
+    }
+
+    /**
+     * Method - Point Runner
+     * This method plays hands for one point in batches until the 95% confidence interval of the house edge
+     * is no wider than `precision` on each side, or `maxHands` hands have been played.
+     * Parameters: `point` holds the rules, `random` is the point's own random stream, `precision` is the target
+     * half-width, `batch` is how many hands to play between checks, and `maxHands` is the most hands to play.
+     * Return type: double[] - {hands played, house edge, confidence half-width}.
+     */
+    public double[] run(SweepPoint point, SplittableRandom random, double precision, int batch, long maxHands) {
+        // Without a single hand there is no house edge to report
+        if (batch < 1 || maxHands < 1) {
+            throw new IllegalArgumentException("A point needs a batch and a hand limit of at least 1.");
+        }
+        shoe.setRandom(random);
+        shoe.configure(point.getDecks(), point.getPenetration());
+
+        long hands = 0, sum = 0, decided = 0;
+        double halfWidth = Double.POSITIVE_INFINITY;
+        while (hands < maxHands && halfWidth > precision) {
+            // The last batch is cut short so that no more than maxHands hands are ever played
+            int size = (int) Math.min(batch, maxHands - hands);
+            for (int i = 0; i < size; i++) {
+                int result = playHand(point);
+                sum += result;
+                decided += result & 1; // Wins and losses are decided hands, ties are not
+            }
+            hands += size;
+
+            // Each result is -1, 0 or 1, so the sum of squares is the number of decided hands
+            double mean = (double) sum / hands;
+            double variance = (double) decided / hands - mean * mean;
+            halfWidth = 1.96 * Math.sqrt(variance / hands);
+        }
+        // The house edge is what the player loses per unit bet
+        return new double[]{hands, -(double) sum / hands, halfWidth};
+    }
+
+    /**
+     * Method - Hand Player
+     * This method plays one hand from the shoe, reshuffling first if the cut card has been reached.
+     * Parameter: `point` holds the rules.
+     * Return type: int - 1 if the player wins, -1 if the house wins, 0 for a tie.
+     */
+    private int playHand(SweepPoint point) {
+        shoe.shuffleIfCut();
+
+        // The house's first card is face down and its second card is the upcard, like BlackjackGame.dealInitialCards
+        int houseHole = shoe.deal();
+        int upcard = shoe.deal();
+        int yourHand = PackedHand.add(PackedHand.add(PackedHand.EMPTY, shoe.deal()), shoe.deal());
+        int standAt = point.getStandThreshold(upcard);
+
+        // The player hits until reaching the stand threshold or busting
+        while (PackedHand.score(yourHand) < standAt) {
+            yourHand = PackedHand.add(yourHand, shoe.deal());
+        }
+        if (PackedHand.score(yourHand) > 21) {
+            return -1;
+        }
+
+        // The house draws until reaching its threshold
+        int houseHand = PackedHand.add(PackedHand.add(PackedHand.EMPTY, houseHole), upcard);
+        while (PackedHand.score(houseHand) < point.getDealerThreshold()) {
+            houseHand = PackedHand.add(houseHand, shoe.deal());
+        }
+
+        return BlackjackGame.evenMoneyResult(BlackjackGame.settle(PackedHand.score(yourHand), PackedHand.score(houseHand)));
+    }
+}
@@ -0,0 +1,134 @@
+package com.game.sim;
+
+/**
+ * SweepPoint.java
+ * This class holds one combination of rules and thresholds studied by the SweepRunner.
+ */
+public class SweepPoint {
+
+    // Number of distinct upcard values, 2 to 10 and the Ace (worth 11)
+    public static final int UPCARDS = 10;
+
+    // The range every dealer and stand threshold must fall in, since no hand scores below 2 and 21 is the best score
+    public static final int MIN_THRESHOLD = 2;
+    public static final int MAX_THRESHOLD = 21;
+
+    // Declaring Instance Variables
+
+    // Instance Variable of type int which holds the score the house stands on (BlackjackGame uses 17)
+    private final int dealerThreshold;
+
+    // Instance Variable of type int[] which holds the score the player stands on for each upcard, index 0 is a 2 and index 9 an Ace
+    private final int[] standThresholds;
+
+    // Instance Variable of type int which holds the number of decks in the shoe
+    private final int decks;
+
+    // Instance Variable of type double which holds the fraction of the shoe dealt before it is reshuffled
+    private final double penetration;
+
+    /**
+     * Constructor
+     * This is used to create a SweepPoint object.
+     * Parameter: `dealerThreshold` is the score the house stands on.
+     * Parameter: `standThresholds` holds the score the player stands on for each upcard from 2 to Ace, in that order.
+     * Parameter: `decks` is the number of decks in the shoe.
+     * Parameter: `penetration` is the fraction of the shoe dealt before it is reshuffled, between 0 and 1.
+     */
+    public SweepPoint(int dealerThreshold, int[] standThresholds, int decks, double penetration) {
+        // Check that there is one threshold per upcard and that the shoe can be dealt at all
+        if (standThresholds.length != UPCARDS) {
+            throw new IllegalArgumentException("A point needs one stand threshold for each of the " + UPCARDS + " upcards.");
+        }
+        checkThreshold("Dealer threshold", dealerThreshold);
+        for (int threshold : standThresholds) {
+            checkThreshold("Stand threshold", threshold);
+        }
+        if (decks < 1) {
+            throw new IllegalArgumentException("A shoe needs at least one deck.");
+        }
+        if (penetration <= 0 || penetration > 1) {
+            throw new IllegalArgumentException("Penetration must be above 0 and at most 1.");
+        }
+        this.dealerThreshold = dealerThreshold;
+        this.standThresholds = standThresholds.clone();
+        this.decks = decks;
+        this.penetration = penetration;
+    }
+
+    // This method rejects a threshold outside MIN_THRESHOLD to MAX_THRESHOLD
+    private static void checkThreshold(String name, int threshold) {
+        if (threshold < MIN_THRESHOLD || threshold > MAX_THRESHOLD) {
+            throw new IllegalArgumentException(name + " must be between " + MIN_THRESHOLD + " and " + MAX_THRESHOLD + ", got " + threshold + ".");
+        }
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the score the house stands on.
+     * No parameters
+     * Return type: int
+     */
+    public int getDealerThreshold() {
+        return dealerThreshold;
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the score the player stands on for a house upcard worth `upcard`.
+     * Parameter: `upcard` is the value of the house's face-up card, from 2 to 11 with an Ace worth 11.
+     * Return type: int
+     */
+    public int getStandThreshold(int upcard) {
+        return standThresholds[upcard - 2];
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the number of decks in the shoe.
+     * No parameters
+     * Return type: int
+     */
+    public int getDecks() {
+        return decks;
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the fraction of the shoe dealt before it is reshuffled.
+     * No parameters
+     * Return type: double
+     */
+    public double getPenetration() {
+        return penetration;
+    }
+
+    /**
+     * Method - Header
+     * This method gives the CSV column names matching toString.
+     * No parameters
+     * Return type: String
+     */
+    public static String csvHeader() {
+        StringBuilder header = new StringBuilder("dealer_threshold");
+        for (int upcard = 2; upcard <= 11; upcard++) {
+            header.append(",stand_vs_").append(upcard == 11 ? "A" : Integer.toString(upcard));
+        }
+        return header.append(",decks,penetration").toString();
+    }
+
+    /**
+     * Method - String Converter
+     * This method gives the point as the first columns of a CSV row, matching csvHeader.
+     * No parameters
+     * Return type: String
+     */
+    @Override
+    public String toString() {
+        StringBuilder row = new StringBuilder().append(dealerThreshold);
+        for (int threshold : standThresholds) {
+            row.append(',').append(threshold);
+        }
+        return row.append(',').append(decks).append(',').append(penetration).toString();
+    }
+}
@@ -0,0 +1,276 @@
+package com.game.sim;
+
+/**
+ * SweepRunner.java
+ * This is the entry point that studies the house edge over a grid of rules and thresholds.
+ * Every combination of the given values is one point. Points are scheduled on a work-stealing pool, each worker
+ * reuses one ShoeSimulator (and its shoe array) for all of its points, and every point stops as soon as its
+ * 95% confidence interval is tight enough. Each point is written to the CSV file as soon as it completes.
+ * Every point gets its own random stream, split from the seed in grid order, so the same seed always gives the same
+ * numbers for every point, whichever thread runs it (only the order of the CSV rows can change).
+ * Usage (every option is optional, values are a single number, a list "1,2,6" or an inclusive range "12:17";
+ * --penetration takes a number, a list "0.5,0.75" or an inclusive range with a step "0.5:0.9:0.1"):
+ *     SweepRunner --dealer 16:18 --stand-low 12:16 --stand-high 15:18 --stand-A 16:18 --decks 1,2,6
+ *                 --penetration 0.5:0.9:0.1 --precision 0.005 --max-hands 2000000 --out sweep.csv --seed 42
+ * Thresholds must be between 2 and 21 and --max-hands at least 1. Invalid options print the usage and exit with code 1.
+ * The player's stand threshold is set per upcard with --stand-2 to --stand-10 and --stand-A. Upcards without their own
+ * option share one value from --stand-low (2 to 6) or --stand-high (7 to Ace), so the two-bucket shorthand still works.
+ */
+
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class SweepRunner {
+
+    // The columns of the CSV file, the first ones match SweepPoint.toString
+    public static final String CSV_HEADER = SweepPoint.csvHeader() + ",hands,house_edge,ci_half_width";
+
+    // The short usage printed when the options cannot be read
+    private static final String USAGE = "Usage: SweepRunner [--dealer 17] [--stand-low 12:17] [--stand-high 17] [--stand-2 .. --stand-10 n]"
+            + " [--stand-A n] [--decks 1] [--penetration 0.75] [--precision 0.005] [--max-hands 2000000] [--out sweep.csv] [--seed n]";
+
+    // How many hands a point plays between two confidence checks
+    private static final int BATCH = 10_000;
+
+    // The options SweepRunner understands besides the per-upcard --stand-2 to --stand-A
+    private static final Set<String> OPTIONS = new HashSet<>(Arrays.asList("--dealer", "--stand-low", "--stand-high",
+            "--decks", "--penetration", "--precision", "--max-hands", "--out", "--seed"));
+
+    public static void main(String[] args) throws IOException {
+        // Read the options, falling back to the rules BlackjackGame plays by
+        List<SweepPoint> points;
+        double precision;
+        long maxHands, seed;
+        String out;
+        try {
+            Map<String, String> options = parseOptions(args);
+            int[] dealer = parseInts(options.getOrDefault("--dealer", "17"));
+            int[] decks = parseInts(options.getOrDefault("--decks", "1"));
+            double[] penetration = parseDoubles(options.getOrDefault("--penetration", "0.75"));
+            precision = Double.parseDouble(options.getOrDefault("--precision", "0.005"));
+            maxHands = Long.parseLong(options.getOrDefault("--max-hands", "2000000"));
+            if (maxHands < 1) {
+                throw new IllegalArgumentException("--max-hands must be at least 1.");
+            }
+            out = options.getOrDefault("--out", "sweep.csv");
+            seed = options.containsKey("--seed") ? Long.parseLong(options.get("--seed")) : System.nanoTime();
+            points = buildGrid(dealer, standRanges(options), decks, penetration);
+        } catch (IllegalArgumentException e) {
+            // Bad input is reported with the usage instead of a stack trace, the same way BatchMain does
+            System.out.println(e.getMessage());
+            System.out.println(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try (BufferedWriter csv = Files.newBufferedWriter(Paths.get(out), StandardCharsets.UTF_8)) {
+            csv.write(CSV_HEADER);
+            csv.newLine();
+            run(points, precision, maxHands, seed, csv);
+        }
+        System.out.printf("%d points written to %s in %.2f s (seed %d)%n", points.size(), out, (System.nanoTime() - start) / 1e9, seed);
+    }
+
+    /**
+     * Method - Grid Builder
+     * This method builds every combination of the given values, in a fixed order.
+     * Upcards that share the same array in `standRanges` move together, so each distinct array is one grid dimension.
+     * Parameters: `dealer` holds the house thresholds, `standRanges` holds the player thresholds of each upcard from
+     * 2 to Ace, `decks` holds the deck counts and `penetration` holds the penetrations to try.
+     * Return type: List<SweepPoint>
+     */
+    public static List<SweepPoint> buildGrid(int[] dealer, int[][] standRanges, int[] decks, double[] penetration) {
+        // Group the upcards that share one range into a single dimension
+        List<int[]> dimensions = new ArrayList<>();
+        int[] dimensionOf = new int[SweepPoint.UPCARDS];
+        for (int u = 0; u < SweepPoint.UPCARDS; u++) {
+            int found = -1;
+            for (int d = 0; d < dimensions.size(); d++) {
+                if (dimensions.get(d) == standRanges[u]) {
+                    found = d;
+                }
+            }
+            if (found < 0) {
+                found = dimensions.size();
+                dimensions.add(standRanges[u]);
+            }
+            dimensionOf[u] = found;
+        }
+
+        // Count through every combination of the stand dimensions like an odometer
+        List<SweepPoint> points = new ArrayList<>();
+        int[] position = new int[dimensions.size()];
+        int[] thresholds = new int[SweepPoint.UPCARDS];
+        while (true) {
+            for (int u = 0; u < SweepPoint.UPCARDS; u++) {
+                thresholds[u] = dimensions.get(dimensionOf[u])[position[dimensionOf[u]]];
+            }
+            for (int d : dealer) {
+                for (int n : decks) {
+                    for (double p : penetration) {
+                        points.add(new SweepPoint(d, thresholds, n, p));
+                    }
+                }
+            }
+
+            int digit = 0;
+            while (digit < position.length && ++position[digit] == dimensions.get(digit).length) {
+                position[digit++] = 0;
+            }
+            if (digit == position.length) {
+                return points;
+            }
+        }
+    }
+
+    /**
+     * Method - Sweep Runner
+     * This method runs every point on a work-stealing pool and writes one CSV row per point as it completes.
+     * Parameters: `points` is the grid, `precision` is the target confidence half-width, `maxHands` caps each point
+     * and must be at least 1, `seed` is the root every point's random stream is split from, and `csv` receives the rows.
+     * No return type (void).
+     */
+    public static void run(List<SweepPoint> points, double precision, long maxHands, long seed, BufferedWriter csv) {
+        // Check the limit before any point starts, so no row is written without a single hand behind it
+        if (maxHands < 1) {
+            throw new IllegalArgumentException("--max-hands must be at least 1.");
+        }
+
+        // Every worker thread reuses one simulator, while every point gets its own stream split in grid order
+        ThreadLocal<ShoeSimulator> simulators = ThreadLocal.withInitial(ShoeSimulator::new);
+        SplittableRandom root = new SplittableRandom(seed);
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (SweepPoint point : points) {
+                SplittableRandom random = root.split();
+                tasks.add(pool.submit(() -> {
+                    double[] result = simulators.get().run(point, random, precision, BATCH, maxHands);
+                    writeRow(csv, point + "," + (long) result[0] + "," + result[1] + "," + result[2]);
+                }));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // This method gives the stand threshold range of each upcard from 2 to Ace. Upcards without their own option
+    // share the very same array of their bucket, which makes them one dimension of the grid
+    private static int[][] standRanges(Map<String, String> options) {
+        int[] low = parseInts(options.getOrDefault("--stand-low", "12:17"));
+        int[] high = parseInts(options.getOrDefault("--stand-high", "17"));
+        int[][] ranges = new int[SweepPoint.UPCARDS][];
+        for (int upcard = 2; upcard <= 11; upcard++) {
+            String own = options.get(standOption(upcard));
+            ranges[upcard - 2] = own != null ? parseInts(own) : upcard <= 6 ? low : high;
+        }
+        return ranges;
+    }
+
+    // This method gives the option name for one upcard, --stand-2 to --stand-10 and --stand-A
+    private static String standOption(int upcard) {
+        return "--stand-" + (upcard == 11 ? "A" : Integer.toString(upcard));
+    }
+
+    // This method writes one row and flushes it, so finished points are on disk even if the sweep is stopped early
+    private static void writeRow(BufferedWriter csv, String row) {
+        synchronized (csv) {
+            try {
+                csv.write(row);
+                csv.newLine();
+                csv.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // This method reads "--name value" pairs from the arguments and rejects unknown options
+    private static Map<String, String> parseOptions(String[] args) {
+        if (args.length % 2 != 0) {
+            throw new IllegalArgumentException("Every option needs a value.");
+        }
+        Set<String> known = new HashSet<>(OPTIONS);
+        for (int upcard = 2; upcard <= 11; upcard++) {
+            known.add(standOption(upcard));
+        }
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!known.contains(args[i])) {
+                throw new IllegalArgumentException("Unknown option " + args[i] + ".");
+            }
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+
+    // This method reads a single integer, a list "1,2,6" or an inclusive range "12:17"
+    private static int[] parseInts(String value) {
+        if (value.contains(":")) {
+            String[] bounds = value.split(":");
+            int from = Integer.parseInt(bounds[0].trim()), to = Integer.parseInt(bounds[1].trim());
+            if (to < from) {
+                throw new IllegalArgumentException("Empty range " + value + ".");
+            }
+            int[] values = new int[to - from + 1];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = from + i;
+            }
+            return values;
+        }
+        String[] parts = value.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+
+    // This method reads a single number, a list "0.5,0.75" or an inclusive range with a step "0.5:0.9:0.1"
+    static double[] parseDoubles(String value) {
+        if (value.contains(":")) {
+            String[] bounds = value.split(":");
+            if (bounds.length != 3) {
+                throw new IllegalArgumentException("A range of decimals needs a step, e.g. 0.5:0.9:0.1, got " + value + ".");
+            }
+            double from = Double.parseDouble(bounds[0].trim()), to = Double.parseDouble(bounds[1].trim());
+            double step = Double.parseDouble(bounds[2].trim());
+            if (!(step > 0) || to < from) {
+                throw new IllegalArgumentException("Empty range " + value + ".");
+            }
+            // Count the steps with a small tolerance so that 0.5:0.9:0.1 includes 0.9 despite rounding
+            int count = (int) Math.floor((to - from) / step + 1e-9) + 1;
+            double[] values = new double[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.round((from + i * step) * 1e9) / 1e9;
+            }
+            return values;
+        }
+        String[] parts = value.split(",");
+        double[] values = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+        return values;
+    }
+}
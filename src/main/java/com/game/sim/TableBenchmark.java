@@ -0,0 +1,57 @@
+package com.game.sim;
+
+/**
+ * TableBenchmark.java
+ * This is the entry point that measures MultiSeatTable throughput as the number of seats grows from 1 to 7,
+ * with the seats' policies evaluated one after another and in parallel.
+ * Usage:
+ *     TableBenchmark [rounds] [decks]
+ * The defaults are 200,000 rounds per measurement and a 6-deck shoe dealt to 75% penetration.
+ */
+
+
+import java.util.SplittableRandom;
+
+public class TableBenchmark {
+
+    // The largest table measured
+    private static final int MAX_SEATS = 7;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int decks = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+
+        // Stand on 12 or more against a weak upcard (2 to 6) and on 17 or more otherwise
+        SeatPolicy policy = (score, soft, upcard) -> score < (upcard <= 6 ? 12 : 17);
+
+        System.out.println("seats,mode,rounds_per_s,seat_hands_per_s,house_edge");
+        for (int seats = 1; seats <= MAX_SEATS; seats++) {
+            for (boolean parallel : new boolean[]{false, true}) {
+                Shoe shoe = new Shoe(new SplittableRandom(seats));
+                shoe.configure(decks, 0.75);
+                MultiSeatTable table = new MultiSeatTable(seats, shoe, 17, policy, parallel);
+
+                // Warm up before measuring so the measurement is not dominated by compilation
+                play(table, rounds / 10);
+                long start = System.nanoTime();
+                long net = play(table, rounds);
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                System.out.printf("%d,%s,%.0f,%.0f,%.4f%n", seats, parallel ? "parallel" : "sequential",
+                        rounds / seconds, (double) rounds * seats / seconds, -(double) net / ((long) rounds * seats));
+            }
+        }
+    }
+
+    // This method plays the given number of rounds and returns the seats' total winnings at even money
+    private static long play(MultiSeatTable table, int rounds) {
+        long net = 0;
+        for (int r = 0; r < rounds; r++) {
+            table.playRound();
+            for (int s = 0; s < table.getSeats(); s++) {
+                net += table.getResult(s);
+            }
+        }
+        return net;
+    }
+}
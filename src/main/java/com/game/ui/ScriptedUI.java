@@ -0,0 +1,134 @@
+package com.game.ui;
+
+/**
+ * ScriptedUI.java
+ * Overrides the functions from UserInterface.java without any console input.
+ * The player's decisions come from a script such as "yyn", where each 'y' is a hit and each 'n' is a stand.
+ */
+
+
+import com.game.core.BlackjackGame;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ScriptedUI implements UserInterface {
+
+    // Declaring Instance Variables
+
+    // Instance Variable of type BlackjackGame, which represents the game logic linked to this UI
+    private BlackjackGame game;
+
+    // Instance Variable of type String, which holds the scripted decisions for one game
+    private final String decisions;
+
+    // Instance Variable of type int, which tracks how many decisions have been used so far
+    private int next;
+
+    // Instance Variable of type String, which holds the result line once the game is over
+    private String result;
+
+    /**
+     * Constructor
+     * This is used to create a ScriptedUI object that plays the given decisions in order.
+     * Parameter: `decisions` is a String of 'y' (hit) and 'n' (stand) characters. Once it runs out the player stands.
+     * Any other character is rejected, the same way SimpleUI rejects invalid input, so a typo cannot change a game.
+     */
+    public ScriptedUI(String decisions) {
+        this.decisions = decisions.trim().toLowerCase(); // Normalize the script the same way SimpleUI normalizes input
+
+        // Check every decision before the game starts
+        for (int i = 0; i < this.decisions.length(); i++) {
+            char choice = this.decisions.charAt(i);
+            if (choice != 'y' && choice != 'n') {
+                throw new IllegalArgumentException("Invalid decision '" + choice + "' in \"" + decisions
+                        + "\". Please use only 'Y' or 'N'.");
+            }
+        }
+    }
+
+    /**
+     * Method - Setter
+     * This method links the ScriptedUI instance to a specific BlackjackGame instance.
+     * Parameter: `game` is of type BlackjackGame.
+     * Void return type
+     */
+    @Override
+    public void setGame(BlackjackGame game) {
+        this.game = game; // Assigns the provided BlackjackGame instance to this UI
+    }
+
+    /**
+     * Method - Display
+     * Scripted games are not watched, so nothing is displayed during play.
+     * No parameters
+     * Void return type
+     */
+    @Override
+    public void display() {
+        // Nothing to display during a scripted game
+    }
+
+    /**
+     * Method - Player Action
+     * This method reads the next scripted decision.
+     * No parameters
+     * Boolean return type - Returns true if the script says to draw another card, otherwise false.
+     */
+    @Override
+    public boolean hitMe() {
+        // Stand once the script has no decisions left
+        if (next >= decisions.length()) {
+            return false;
+        }
+        return decisions.charAt(next++) == 'y';
+    }
+
+    /**
+     * Method - Game Over Handler
+     * This method settles the game with BlackjackGame.outcome, like SimpleUI.gameOver, and keeps a one-line summary.
+     * No parameters
+     * Void return type
+     */
+    @Override
+    public void gameOver() {
+        // Calculate the player's and house's final scores
+        int yourScore = game.calculateScore(game.getYourCards());
+        int houseScore = game.calculateScore(game.getHouseCards());
+
+        // Determine the winner with the same settlement as SimpleUI
+        String winner = BlackjackGame.describeOutcome(game.outcome());
+
+        result = "House Score: " + houseScore + ", Your Score: " + yourScore + " - " + winner;
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the summary of the finished game, or null if the game is not over yet.
+     * No parameters
+     * Return type: String
+     */
+    public String getResult() {
+        return result;
+    }
+
+    /**
+     * Method - Script Reader
+     * This method reads one game of decisions per line from a script file, skipping blank lines and lines starting with '#'.
+     * Parameter: `path` is the path of the script file.
+     * Return type: List<String> - The decisions of each game, in file order.
+     */
+    public static List<String> readScript(String path) throws IOException {
+        List<String> games = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8)) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                games.add(trimmed);
+            }
+        }
+        return games;
+    }
+}
@@ -94,25 +94,27 @@ public class SimpleUI implements UserInterface {
         System.out.println("House Score: " + houseScore + ", Your Score: " + yourScore);
 
         // Determine and announce the winner
-        // Player's score exceeds 21 (bust)
-        if (yourScore > 21) {
-            System.out.println("|-------------|\n| House Wins! |\n|-------------| \n(You Busted)");
-        }
-        // House's score exceeds 21 (bust)
-        else if (houseScore > 21) {
-            System.out.println("|----------|\n| You Win! |\n|----------| \n(House Busted)");
-        }
-        // Player's score is higher than the house's
-        else if (yourScore > houseScore) {
-            System.out.println("|----------|\n| You Win! |\n|----------| \n(Your Score is Higher)");
-        }
-        // House's score is higher than the player's
-        else if (yourScore < houseScore) {
-            System.out.println("|-------------|\n| House Wins! |\n|-------------| \n(House Score is Higher)");
-        }
-        // Scores are equal (tie)
-        else {
-            System.out.println("|------------|\n| It's a Tie |\n|------------| \n(Both Scores are Equal)");
+        switch (game.outcome()) {
+            // Player's score exceeds 21 (bust)
+            case BlackjackGame.YOU_BUSTED:
+                System.out.println("|-------------|\n| House Wins! |\n|-------------| \n(You Busted)");
+                break;
+            // House's score exceeds 21 (bust)
+            case BlackjackGame.HOUSE_BUSTED:
+                System.out.println("|----------|\n| You Win! |\n|----------| \n(House Busted)");
+                break;
+            // Player's score is higher than the house's
+            case BlackjackGame.YOUR_SCORE_HIGHER:
+                System.out.println("|----------|\n| You Win! |\n|----------| \n(Your Score is Higher)");
+                break;
+            // House's score is higher than the player's
+            case BlackjackGame.HOUSE_SCORE_HIGHER:
+                System.out.println("|-------------|\n| House Wins! |\n|-------------| \n(House Score is Higher)");
+                break;
+            // Scores are equal (tie)
+            default:
+                System.out.println("|------------|\n| It's a Tie |\n|------------| \n(Both Scores are Equal)");
+                break;
         }
 
         // Thank the player for playing
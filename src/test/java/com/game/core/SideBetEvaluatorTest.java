@@ -0,0 +1,240 @@
+package com.game.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * SideBetEvaluatorTest.java
+ * Checks the combination counts of SideBetEvaluator against brute force, the mask overloads against the count
+ * overloads, and the expected values against the published house edges.
+ */
+public class SideBetEvaluatorTest extends TestCase {
+
+    // Number of random compositions compared in each test
+    private static final int COMPOSITIONS = 300;
+
+    /**
+     * Test - Brute Force
+     * Every pair and every three cards of small random one and two deck compositions are settled one by one,
+     * and the totals must match the counts of the evaluator exactly.
+     */
+    public void testCountsMatchBruteForce() {
+        Random random = new Random(26);
+        for (int c = 0; c < COMPOSITIONS; c++) {
+            int[] counts = randomComposition(random, 1 + c % 2, 3);
+            List<int[]> cards = cardsOf(counts);
+
+            long[] pairs = new long[3];
+            long[] hands = new long[5];
+            for (int i = 0; i < cards.size(); i++) {
+                for (int j = i + 1; j < cards.size(); j++) {
+                    int pair = pairOutcome(cards.get(i), cards.get(j));
+                    if (pair >= 0) {
+                        pairs[pair]++;
+                    }
+                    for (int k = j + 1; k < cards.size(); k++) {
+                        int hand = threeCardOutcome(cards.get(i), cards.get(j), cards.get(k));
+                        if (hand >= 0) {
+                            hands[hand]++;
+                        }
+                    }
+                }
+            }
+
+            SideBetOdds perfectPairs = SideBetEvaluator.perfectPairs(counts);
+            SideBetOdds twentyOnePlusThree = SideBetEvaluator.twentyOnePlusThree(counts);
+            for (int outcome = 0; outcome < pairs.length; outcome++) {
+                assertEquals("Perfect Pairs outcome " + outcome, pairs[outcome], perfectPairs.getWays(outcome));
+            }
+            for (int outcome = 0; outcome < hands.length; outcome++) {
+                assertEquals("21+3 outcome " + outcome, hands[outcome], twentyOnePlusThree.getWays(outcome));
+            }
+            long n = cards.size();
+            assertEquals(n * (n - 1) / 2, perfectPairs.getTotalWays());
+            assertEquals(n * (n - 1) * (n - 2) / 6, twentyOnePlusThree.getTotalWays());
+        }
+    }
+
+    /**
+     * Test - Mask Overloads
+     * For single-deck compositions the bitmask evaluators must give the same counts as the count evaluators.
+     */
+    public void testMaskMatchesCounts() {
+        Random random = new Random(52);
+        for (int c = 0; c < COMPOSITIONS; c++) {
+            int[] counts = randomComposition(random, 1, 2 + c % 4);
+            long mask = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                mask |= (long) counts[i] << i;
+            }
+
+            SideBetOdds fromCounts = SideBetEvaluator.perfectPairs(counts);
+            SideBetOdds fromMask = SideBetEvaluator.perfectPairs(mask);
+            for (int outcome = 0; outcome < 3; outcome++) {
+                assertEquals(fromCounts.getWays(outcome), fromMask.getWays(outcome));
+            }
+            assertEquals(fromCounts.getTotalWays(), fromMask.getTotalWays());
+
+            fromCounts = SideBetEvaluator.twentyOnePlusThree(counts);
+            fromMask = SideBetEvaluator.twentyOnePlusThree(mask);
+            for (int outcome = 0; outcome < 5; outcome++) {
+                assertEquals(fromCounts.getWays(outcome), fromMask.getWays(outcome));
+            }
+            assertEquals(fromCounts.getTotalWays(), fromMask.getTotalWays());
+        }
+    }
+
+    /**
+     * Test - Game Deck
+     * The composition and mask of a fresh BlackjackGame deck must describe exactly one full deck.
+     */
+    public void testFreshGameDeck() {
+        BlackjackGame game = new BlackjackGame(new com.game.ui.ScriptedUI(""));
+        int[] counts = SideBetEvaluator.compositionOf(game.getDeck());
+        int[] fullDeck = new int[52];
+        Arrays.fill(fullDeck, 1);
+        assertTrue(Arrays.equals(fullDeck, counts));
+        assertEquals((1L << 52) - 1, SideBetEvaluator.maskOf(game.getDeck()));
+    }
+
+    /**
+     * Test - Published House Edge
+     * Six-deck Perfect Pairs (25/12/6) has a house edge of 6.11%.
+     */
+    public void testSixDeckPerfectPairsEdge() {
+        assertEquals(-0.0611, SideBetEvaluator.perfectPairs(decks(6)).getExpectedValue(), 0.00005);
+    }
+
+    /**
+     * Test - Published House Edge
+     * Eight-deck 21+3 (100/40/30/10/5) has a house edge of 3.70%.
+     */
+    public void testEightDeckTwentyOnePlusThreeEdge() {
+        assertEquals(-0.0370, SideBetEvaluator.twentyOnePlusThree(decks(8)).getExpectedValue(), 0.00005);
+    }
+
+    /**
+     * Test - Sweep
+     * Removing no card leaves only the full deck, and removing one card gives 52 states whose average
+     * is the full-deck value, since every card is equally likely to be the one dealt.
+     */
+    public void testSweep() {
+        double fullDeck = SideBetEvaluator.twentyOnePlusThree((1L << 52) - 1).getExpectedValue();
+        assertEquals(1, SideBetEvaluator.sweepTwentyOnePlusThree(0).getCount());
+        assertEquals(fullDeck, SideBetEvaluator.sweepTwentyOnePlusThree(0).getAverage(), 1e-12);
+        assertEquals(52, SideBetEvaluator.sweepTwentyOnePlusThree(1).getCount());
+        assertEquals(fullDeck, SideBetEvaluator.sweepTwentyOnePlusThree(1).getAverage(), 1e-12);
+        assertEquals(1326, SideBetEvaluator.sweepPerfectPairs(2).getCount());
+    }
+
+    /**
+     * Test - Sweep Limit
+     * Depths that cannot complete must be rejected instead of running for days.
+     */
+    public void testSweepRejectsDeepDepths() {
+        try {
+            SideBetEvaluator.sweepPerfectPairs(SideBetEvaluator.MAX_SWEEP_DEPTH + 1);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // The depth is rejected before any state is visited
+        }
+        try {
+            SideBetEvaluator.sweepTwentyOnePlusThree(-1);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // A negative depth is rejected as well
+        }
+    }
+
+    /**
+     * Test - Mask Bits
+     * Bits above the 52 cards of a deck must be rejected instead of being counted as extra cards.
+     */
+    public void testMasksRejectBitsAboveTheDeck() {
+        long fullDeck = (1L << 52) - 1;
+        try {
+            SideBetEvaluator.perfectPairs(fullDeck | 1L << 60);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // Bit 60 is not a card
+        }
+        try {
+            SideBetEvaluator.twentyOnePlusThree(fullDeck | 1L << 52);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // Bit 52 is one past the last card
+        }
+    }
+
+    // This method builds a composition of `decks` full decks
+    private static int[] decks(int decks) {
+        int[] counts = new int[52];
+        Arrays.fill(counts, decks);
+        return counts;
+    }
+
+    // This method keeps each card of `decks` decks with a chance of 1 in `keepOneIn`
+    private static int[] randomComposition(Random random, int decks, int keepOneIn) {
+        int[] counts = new int[52];
+        for (int d = 0; d < decks; d++) {
+            for (int i = 0; i < counts.length; i++) {
+                if (random.nextInt(keepOneIn) == 0) {
+                    counts[i]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    // This method lists every card of a composition as {rank, suit}
+    private static List<int[]> cardsOf(int[] counts) {
+        List<int[]> cards = new ArrayList<>();
+        for (int rank = 2; rank < 15; rank++) {
+            for (int suit = 0; suit < 4; suit++) {
+                for (int n = 0; n < counts[SideBetEvaluator.indexOf(rank, suit)]; n++) {
+                    cards.add(new int[]{rank, suit});
+                }
+            }
+        }
+        return cards;
+    }
+
+    // This method settles Perfect Pairs for two cards, or returns -1 when they are not a pair
+    private static int pairOutcome(int[] a, int[] b) {
+        if (a[0] != b[0]) {
+            return -1;
+        }
+        if (a[1] == b[1]) {
+            return SideBetEvaluator.PERFECT_PAIR;
+        }
+        boolean aBlack = a[1] == Card.CLUB || a[1] == Card.SPADE;
+        boolean bBlack = b[1] == Card.CLUB || b[1] == Card.SPADE;
+        return aBlack == bBlack ? SideBetEvaluator.COLORED_PAIR : SideBetEvaluator.MIXED_PAIR;
+    }
+
+    // This method settles 21+3 for three cards, or returns -1 when the hand does not win
+    private static int threeCardOutcome(int[] a, int[] b, int[] c) {
+        int[] ranks = {a[0], b[0], c[0]};
+        Arrays.sort(ranks);
+        boolean flush = a[1] == b[1] && b[1] == c[1];
+        boolean trips = ranks[0] == ranks[2];
+        boolean straight = (ranks[0] + 1 == ranks[1] && ranks[1] + 1 == ranks[2])
+                || (ranks[0] == 2 && ranks[1] == 3 && ranks[2] == Card.ACE);
+        if (trips && flush) {
+            return SideBetEvaluator.SUITED_TRIPS;
+        }
+        if (straight && flush) {
+            return SideBetEvaluator.STRAIGHT_FLUSH;
+        }
+        if (trips) {
+            return SideBetEvaluator.THREE_OF_A_KIND;
+        }
+        if (straight) {
+            return SideBetEvaluator.STRAIGHT;
+        }
+        return flush ? SideBetEvaluator.FLUSH : -1;
+    }
+}
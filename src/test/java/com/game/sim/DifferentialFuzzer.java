@@ -0,0 +1,141 @@
+package com.game.sim;
+
+/**
+ * DifferentialFuzzer.java
+ * This is the test harness that checks an optimized engine against the reference BlackjackGame.
+ * DifferentialFuzzerTest runs the check on every mvn test, and main is for longer or custom runs from the test classpath.
+ * Every seed gives one hand: the seed deals the cards, and a second generator derived from it picks the player's decisions.
+ * Both engines play every hand, and every snapshot of the scores as well as the final outcome must be the same.
+ * When a hand disagrees, the case is shrunk to the fewest decisions and the smallest seed that still disagree.
+ * Usage (after mvn test-compile, from target/test-classes and target/classes):
+ *     DifferentialFuzzer [hands] [engine class]
+ * The defaults are 1,000,000 hands and com.game.sim.FastBlackjackEngine. The exit code is 1 when a difference is found.
+ */
+
+
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+public class DifferentialFuzzer {
+
+    // The longest decision script generated for one hand, long enough to reach a bust from any start
+    private static final int MAX_DECISIONS = 12;
+
+    public static void main(String[] args) throws ReflectiveOperationException {
+        // Read the number of hands and the engine to check from the arguments
+        long hands = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        String engineClass = args.length > 1 ? args[1] : FastBlackjackEngine.class.getName();
+        BlackjackEngine reference = new ReferenceBlackjackEngine();
+        BlackjackEngine candidate = (BlackjackEngine) Class.forName(engineClass).getDeclaredConstructor().newInstance();
+
+        // Play every seed through both engines in parallel and keep the smallest failing seed
+        long start = System.nanoTime();
+        OptionalLong failing = findFailingSeed(reference, candidate, hands, null);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        if (!failing.isPresent()) {
+            System.out.printf("%,d hands matched in %.2f s (%,.0f hands/s)%n", hands, seconds, hands / seconds);
+            return;
+        }
+
+        // Shrink the failing case before reporting it
+        long seed = failing.getAsLong();
+        String decisions = shrinkDecisions(reference, candidate, seed, decisionsFor(seed));
+        seed = findFailingSeed(reference, candidate, seed + 1, decisions).orElse(seed);
+
+        System.out.println("Engines disagree for seed " + seed + " with decisions \"" + decisions + "\"");
+        System.out.println("  difference: " + difference(reference, candidate, seed, decisions));
+        System.out.println("  reference:  " + trace(reference, seed, decisions));
+        System.out.println("  candidate:  " + describe(candidate, seed, decisions));
+        System.exit(1);
+    }
+
+    /**
+     * Method - Seed Search
+     * This method plays seeds 0 up to `hands` through both engines in parallel and finds the smallest one that disagrees.
+     * Parameters: `reference` and `candidate` are the engines to compare, `hands` is the number of seeds to try,
+     * `decisions` is the script to play for every seed, or null to derive a different script from each seed.
+     * Return type: OptionalLong - The smallest failing seed, or empty if all seeds agree.
+     */
+    public static OptionalLong findFailingSeed(BlackjackEngine reference, BlackjackEngine candidate, long hands, String decisions) {
+        return LongStream.range(0, hands)
+                .parallel()
+                .filter(seed -> difference(reference, candidate, seed, decisions == null ? decisionsFor(seed) : decisions) != null)
+                .findFirst();
+    }
+
+    /**
+     * Method - Decision Generator
+     * This method derives the player's decisions for a seed, independently of the cards that seed deals.
+     * Parameter: `seed` is the seed of the hand.
+     * Return type: String - Between 0 and MAX_DECISIONS 'y' or 'n' characters.
+     */
+    public static String decisionsFor(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        char[] decisions = new char[random.nextInt(MAX_DECISIONS + 1)];
+        for (int i = 0; i < decisions.length; i++) {
+            decisions[i] = random.nextBoolean() ? 'y' : 'n';
+        }
+        return new String(decisions);
+    }
+
+    /**
+     * Method - Hand Comparator
+     * This method plays one hand through both engines and describes where they disagree.
+     * An exception thrown by the candidate counts as a difference.
+     * Parameters: `reference` and `candidate` are the engines, `seed` and `decisions` define the hand.
+     * Return type: String - The first difference, or null if both engines agree.
+     */
+    public static String difference(BlackjackEngine reference, BlackjackEngine candidate, long seed, String decisions) {
+        HandTrace expected = trace(reference, seed, decisions);
+        try {
+            return expected.firstDifference(trace(candidate, seed, decisions));
+        } catch (RuntimeException e) {
+            return "candidate threw " + e;
+        }
+    }
+
+    /**
+     * Method - Shrinker
+     * This method removes decisions one at a time for as long as the hand still disagrees.
+     * Parameters: `reference` and `candidate` are the engines, `seed` and `decisions` define the failing hand.
+     * Return type: String - The shortest script found that still makes the engines disagree.
+     */
+    public static String shrinkDecisions(BlackjackEngine reference, BlackjackEngine candidate, long seed, String decisions) {
+        boolean shrunk = true;
+        while (shrunk) {
+            shrunk = false;
+            for (int i = 0; i < decisions.length(); i++) {
+                String smaller = decisions.substring(0, i) + decisions.substring(i + 1);
+                if (difference(reference, candidate, seed, smaller) != null) {
+                    decisions = smaller;
+                    shrunk = true;
+                    break;
+                }
+            }
+        }
+        return decisions;
+    }
+
+    /**
+     * Method - Tracer
+     * This method plays one hand through an engine and keeps everything it showed.
+     * Parameters: `engine` plays the hand, `seed` and `decisions` define it.
+     * Return type: HandTrace
+     */
+    public static HandTrace trace(BlackjackEngine engine, long seed, String decisions) {
+        HandTrace trace = new HandTrace();
+        engine.play(seed, decisions, trace);
+        return trace;
+    }
+
+    // This method describes the candidate's result, including an exception if it throws one
+    private static String describe(BlackjackEngine candidate, long seed, String decisions) {
+        try {
+            return trace(candidate, seed, decisions).toString();
+        } catch (RuntimeException e) {
+            return e.toString();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.game.sim;
+
+import java.util.OptionalLong;
+import junit.framework.TestCase;
+
+/**
+ * DifferentialFuzzerTest.java
+ * Plays a million seeded hands through the reference BlackjackGame and FastBlackjackEngine and checks that every
+ * score snapshot and every settlement agrees, and checks that the harness itself catches and shrinks a difference.
+ */
+public class DifferentialFuzzerTest extends TestCase {
+
+    // Number of seeds played on every test run
+    private static final long HANDS = 1_000_000L;
+
+    /**
+     * Test - Engines Agree
+     * Every seed from 0 to HANDS must play identically in both engines.
+     */
+    public void testFastEngineMatchesReference() {
+        BlackjackEngine reference = new ReferenceBlackjackEngine();
+        BlackjackEngine candidate = new FastBlackjackEngine();
+        OptionalLong failing = DifferentialFuzzer.findFailingSeed(reference, candidate, HANDS, null);
+
+        // Report the shrunk case so a failure can be replayed directly
+        if (failing.isPresent()) {
+            long seed = failing.getAsLong();
+            String decisions = DifferentialFuzzer.shrinkDecisions(reference, candidate, seed, DifferentialFuzzer.decisionsFor(seed));
+            fail("Engines disagree for seed " + seed + " with decisions \"" + decisions + "\": "
+                    + DifferentialFuzzer.difference(reference, candidate, seed, decisions));
+        }
+    }
+
+    /**
+     * Test - Harness
+     * An engine that records one extra snapshot whenever the player hits must be caught at the first seed whose
+     * script hits, and its script must shrink to a single hit.
+     */
+    public void testBrokenEngineIsCaughtAndShrunk() {
+        BlackjackEngine reference = new ReferenceBlackjackEngine();
+        BlackjackEngine fast = new FastBlackjackEngine();
+        BlackjackEngine broken = (seed, decisions, recorder) -> {
+            fast.play(seed, decisions, recorder);
+            if (decisions.startsWith("y")) {
+                recorder.record(0, 0);
+            }
+        };
+
+        long expected = 0;
+        while (!DifferentialFuzzer.decisionsFor(expected).startsWith("y")) {
+            expected++;
+        }
+        OptionalLong failing = DifferentialFuzzer.findFailingSeed(reference, broken, 1_000, null);
+        assertTrue(failing.isPresent());
+        assertEquals(expected, failing.getAsLong());
+        assertEquals("y", DifferentialFuzzer.shrinkDecisions(reference, broken, expected, DifferentialFuzzer.decisionsFor(expected)));
+    }
+}
@@ -0,0 +1,111 @@
+package com.game.sim;
+
+import com.game.core.BlackjackGame;
+import java.util.Arrays;
+
+/**
+ * HandTrace.java
+ * This class is the HandRecorder of the test harness: it keeps everything an engine shows while playing one hand,
+ * the house and player scores each time the table changes, and the final outcome.
+ * Two engines play a hand the same way exactly when their traces are equal.
+ */
+public class HandTrace implements HandRecorder {
+
+    // Declaring a symbolic constant for a hand that has not been settled yet, the other outcomes are BlackjackGame's
+    public static final int UNSETTLED = 0;
+
+    // Declaring Instance Variables
+
+    // Instance Variable of type int[] which holds the house and player scores of each snapshot, one pair after another
+    private int[] scores = new int[16];
+
+    // Instance Variable of type int which holds how many entries of `scores` are used
+    private int size;
+
+    // Instance Variable of type int which holds the final outcome, UNSETTLED or a settlement constant of BlackjackGame
+    private int outcome = UNSETTLED;
+
+    /**
+     * Method - Recorder
+     * This method records the scores shown at one point of the hand.
+     * Parameters: `houseScore` and `yourScore` are the current scores of the house and the player.
+     * No return type (void).
+     */
+    @Override
+    public void record(int houseScore, int yourScore) {
+        // Grow the array when it is full, long hands are rare so this almost never happens
+        if (size + 2 > scores.length) {
+            scores = Arrays.copyOf(scores, scores.length * 2);
+        }
+        scores[size++] = houseScore;
+        scores[size++] = yourScore;
+    }
+
+    /**
+     * Method - Setter
+     * This method records the final outcome of the hand.
+     * Parameter: `outcome` is a settlement constant of BlackjackGame, as returned by BlackjackGame.settle.
+     * No return type (void).
+     */
+    @Override
+    public void settle(int outcome) {
+        this.outcome = outcome;
+    }
+
+    /**
+     * Method - Getter
+     * This method gives the final outcome of the hand.
+     * No parameters
+     * Return type: int
+     */
+    public int getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Method - Comparator
+     * This method finds the first point where this trace and another trace disagree.
+     * Parameter: `other` is of type HandTrace.
+     * Return type: String - A description of the first difference, or null if both traces are equal.
+     */
+    public String firstDifference(HandTrace other) {
+        // Compare the snapshots one by one, in the order they were shown
+        for (int i = 0; i < Math.min(size, other.size); i += 2) {
+            if (scores[i] != other.scores[i] || scores[i + 1] != other.scores[i + 1]) {
+                return "snapshot " + (i / 2) + ": " + describe(i) + " vs " + other.describe(i);
+            }
+        }
+        if (size != other.size) {
+            return "snapshot count: " + (size / 2) + " vs " + (other.size / 2);
+        }
+        if (outcome != other.outcome) {
+            return "outcome: " + outcomeString(outcome) + " vs " + outcomeString(other.outcome);
+        }
+        return null;
+    }
+
+    /**
+     * Method - String Converter
+     * This method lists every snapshot followed by the outcome.
+     * No parameters
+     * Return type: String
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < size; i += 2) {
+            text.append(describe(i)).append(", ");
+        }
+        return text.append(outcomeString(outcome)).toString();
+    }
+
+    // This method describes the snapshot stored at position `i`
+    private String describe(int i) {
+        return "House " + scores[i] + " / You " + scores[i + 1];
+    }
+
+    // This method converts an outcome constant to its text, with the same wording as ScriptedUI
+    private static String outcomeString(int outcome) {
+        return outcome == UNSETTLED ? "Unsettled" : BlackjackGame.describeOutcome(outcome);
+    }
+}
@@ -0,0 +1,130 @@
+package com.game.sim;
+
+import java.util.SplittableRandom;
+import junit.framework.TestCase;
+
+/**
+ * MultiSeatTableTest.java
+ * Checks that a MultiSeatTable deals round-robin from its shoe, plays the same with sequential and parallel policies,
+ * skips the house's turn when every seat has busted and rejects a table without seats.
+ */
+public class MultiSeatTableTest extends TestCase {
+
+    // The decks in every test shoe, enough that no round reaches the end of the shoe
+    private static final int DECKS = 6;
+
+    /**
+     * Test - Parallel Policies
+     * The same seed gives the same result and score for every seat in every round, whether the seats decide
+     * one after another or in parallel.
+     */
+    public void testParallelMatchesSequential() {
+        SeatPolicy policy = (score, soft, upcard) -> score < (soft ? 18 : upcard <= 6 ? 13 : 17);
+        MultiSeatTable sequential = new MultiSeatTable(7, shoe(42, 0.75), 17, policy, false);
+        MultiSeatTable parallel = new MultiSeatTable(7, shoe(42, 0.75), 17, policy, true);
+        for (int round = 0; round < 5_000; round++) {
+            sequential.playRound();
+            parallel.playRound();
+            for (int s = 0; s < sequential.getSeats(); s++) {
+                assertEquals("round " + round + " seat " + s, sequential.getResult(s), parallel.getResult(s));
+                assertEquals("round " + round + " seat " + s, sequential.getScore(s), parallel.getScore(s));
+            }
+            assertEquals("round " + round, sequential.getHouseScore(), parallel.getHouseScore());
+        }
+    }
+
+    /**
+     * Test - Dealing Order
+     * With every seat standing, the cards must come out as one card per seat, the house's hole card, a second card
+     * per seat and then the upcard, which is checked against a twin shoe shuffled with the same seed.
+     */
+    public void testRoundRobinDealingOrder() {
+        int seats = 3;
+        for (int seed = 0; seed < 100; seed++) {
+            int[] upcardSeen = new int[1];
+            SeatPolicy stand = (score, soft, upcard) -> {
+                upcardSeen[0] = upcard;
+                return false;
+            };
+            MultiSeatTable table = new MultiSeatTable(seats, shoe(seed, 1.0), 17, stand, false);
+            table.playRound();
+
+            Shoe twin = shoe(seed, 1.0);
+            twin.shuffleIfCut();
+            int[] cards = new int[2 * seats + 2];
+            for (int i = 0; i < cards.length; i++) {
+                cards[i] = twin.deal();
+            }
+            for (int s = 0; s < seats; s++) {
+                assertEquals("seed " + seed + " seat " + s, hand(cards[s], cards[seats + 1 + s]), table.getScore(s));
+            }
+            int hole = cards[seats], upcard = cards[2 * seats + 1];
+            assertEquals("seed " + seed, upcard, upcardSeen[0]);
+
+            // The house then draws from the next cards of the shoe until it reaches 17
+            int house = PackedHand.add(PackedHand.add(PackedHand.EMPTY, hole), upcard);
+            while (PackedHand.score(house) < 17) {
+                house = PackedHand.add(house, twin.deal());
+            }
+            assertEquals("seed " + seed, PackedHand.score(house), table.getHouseScore());
+        }
+    }
+
+    /**
+     * Test - All Seats Busted
+     * When every seat has busted the house keeps its two cards, even when they are below its threshold,
+     * and every seat loses.
+     */
+    public void testHouseDrawsNothingWhenEverySeatBusts() {
+        int seats = 3, belowThreshold = 0;
+        for (int seed = 0; seed < 200; seed++) {
+            MultiSeatTable table = new MultiSeatTable(seats, shoe(seed, 1.0), 17, (score, soft, upcard) -> true, false);
+            table.playRound();
+
+            Shoe twin = shoe(seed, 1.0);
+            twin.shuffleIfCut();
+            int hole = 0, upcard = 0;
+            for (int i = 0; i < 2 * seats + 2; i++) {
+                int card = twin.deal();
+                hole = i == seats ? card : hole;
+                upcard = i == 2 * seats + 1 ? card : upcard;
+            }
+            int twoCards = hand(hole, upcard);
+            belowThreshold += twoCards < 17 ? 1 : 0;
+
+            assertEquals("seed " + seed, twoCards, table.getHouseScore());
+            for (int s = 0; s < seats; s++) {
+                assertTrue(table.getScore(s) > 21);
+                assertEquals(MultiSeatTable.HOUSE_WINS, table.getResult(s));
+            }
+        }
+        assertTrue("no seed left the house below 17", belowThreshold > 0);
+    }
+
+    /**
+     * Test - Seat Count
+     * A table needs at least one seat.
+     */
+    public void testTableWithoutSeatsIsRejected() {
+        for (int seats : new int[]{0, -1}) {
+            try {
+                new MultiSeatTable(seats, shoe(1, 0.75), 17, (score, soft, upcard) -> false, false);
+                fail("Expected an IllegalArgumentException for " + seats + " seats");
+            } catch (IllegalArgumentException expected) {
+                // No seats to deal to
+            }
+        }
+    }
+
+    // This method creates a configured shoe shuffled by `seed`
+    private static Shoe shoe(long seed, double penetration) {
+        Shoe shoe = new Shoe(new SplittableRandom(seed));
+        shoe.configure(DECKS, penetration);
+        return shoe;
+    }
+
+    // This method gives the score of a two-card hand
+    private static int hand(int first, int second) {
+        return PackedHand.score(PackedHand.add(PackedHand.add(PackedHand.EMPTY, first), second));
+    }
+}
@@ -0,0 +1,47 @@
+package com.game.sim;
+
+import com.game.core.BlackjackGame;
+import com.game.core.Card;
+import com.game.core.CardPile;
+import com.game.ui.ScriptedUI;
+import java.util.SplittableRandom;
+import junit.framework.TestCase;
+
+/**
+ * PackedHandTest.java
+ * Checks PackedHand against BlackjackGame.calculateScore after every card of many random card sequences.
+ */
+public class PackedHandTest extends TestCase {
+
+    // Number of random card sequences checked
+    private static final int SEQUENCES = 100_000;
+
+    // The longest sequence, enough to take any hand past 21
+    private static final int MAX_CARDS = 12;
+
+    /**
+     * Test - Score and Softness
+     * After every card, PackedHand.score must equal calculateScore, and PackedHand.isSoft must be true exactly
+     * when calculateScore still counts an Ace as 11, i.e. the score is 10 above the total with every Ace as 1.
+     */
+    public void testMatchesCalculateScore() {
+        BlackjackGame game = new BlackjackGame(new ScriptedUI(""));
+        SplittableRandom random = new SplittableRandom(2024);
+        for (int n = 0; n < SEQUENCES; n++) {
+            CardPile pile = new CardPile();
+            int hand = PackedHand.EMPTY, hard = 0;
+            int cards = 1 + random.nextInt(MAX_CARDS);
+            for (int c = 0; c < cards; c++) {
+                int rank = 2 + random.nextInt(13);
+                int value = rank == Card.ACE ? 11 : Math.min(rank, 10);
+                pile.add(new Card(rank, random.nextInt(4), true));
+                hand = PackedHand.add(hand, value);
+                hard += value == 11 ? 1 : value;
+
+                int expected = game.calculateScore(pile);
+                assertEquals("score after " + pile, expected, PackedHand.score(hand));
+                assertEquals("softness after " + pile, expected == hard + 10, PackedHand.isSoft(hand));
+            }
+        }
+    }
+}
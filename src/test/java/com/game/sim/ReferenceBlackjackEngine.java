@@ -0,0 +1,27 @@
+package com.game.sim;
+
+import com.game.core.BlackjackGame;
+import java.util.Random;
+
+/**
+ * ReferenceBlackjackEngine.java
+ * This engine plays hands with the original BlackjackGame, so it defines the semantics every other engine must match.
+ */
+public class ReferenceBlackjackEngine implements BlackjackEngine {
+
+    /**
+     * Method - Hand Player
+     * This method runs the full start, play and end lifecycle of a BlackjackGame dealt with the given seed.
+     * Parameters: `seed` is the seed of the dealing generator, `decisions` holds the scripted player decisions,
+     * `recorder` receives every table shown and the outcome.
+     * No return type (void).
+     */
+    @Override
+    public void play(long seed, String decisions, HandRecorder recorder) {
+        TracingUI ui = new TracingUI(decisions, recorder);
+        BlackjackGame game = new BlackjackGame(ui, new Random(seed));
+        game.start();
+        game.play();
+        game.end();
+    }
+}
@@ -0,0 +1,91 @@
+package com.game.sim;
+
+import java.util.SplittableRandom;
+import junit.framework.TestCase;
+
+/**
+ * ShoeTest.java
+ * Checks that a round running past the end of the shoe never deals a card that is already in play,
+ * and that a shoe which is not set up correctly fails clearly.
+ */
+public class ShoeTest extends TestCase {
+
+    /**
+     * Test - Mid-Round Reshuffle
+     * A round that deals the last card continues with the reshuffled discards only, so across the whole round
+     * no card value is dealt more often than one deck holds it.
+     */
+    public void testMidRoundReshuffleKeepsCardsInPlay() {
+        for (int seed = 0; seed < 1_000; seed++) {
+            Shoe shoe = new Shoe(new SplittableRandom(seed));
+            shoe.configure(1, 1.0);
+
+            // The first round leaves 12 cards in the shoe, the second round needs 30
+            shoe.shuffleIfCut();
+            for (int i = 0; i < 40; i++) {
+                shoe.deal();
+            }
+            shoe.shuffleIfCut();
+            int[] dealt = new int[12];
+            for (int i = 0; i < 30; i++) {
+                dealt[shoe.deal()]++;
+            }
+            for (int value = 2; value <= 11; value++) {
+                assertTrue("seed " + seed + " dealt too many " + value, dealt[value] <= (value == 10 ? 16 : 4));
+            }
+        }
+    }
+
+    /**
+     * Test - Oversized Round
+     * A round that needs more cards than the whole shoe holds is rejected instead of duplicating cards.
+     */
+    public void testRoundLargerThanShoeIsRejected() {
+        Shoe shoe = new Shoe(new SplittableRandom(1));
+        shoe.configure(1, 0.75);
+        shoe.shuffleIfCut();
+        for (int i = 0; i < 52; i++) {
+            shoe.deal();
+        }
+        try {
+            shoe.deal();
+            fail("A 53rd card in one round must be rejected.");
+        } catch (IllegalStateException expected) {
+            // The round used the whole shoe
+        }
+    }
+
+    /**
+     * Test - Validation
+     * Bad deck counts and penetrations are rejected, and an unconfigured shoe fails with a clear message.
+     */
+    public void testInvalidSetupIsRejected() {
+        Shoe shoe = new Shoe(new SplittableRandom(1));
+        try {
+            shoe.deal();
+            fail("An unconfigured shoe must not deal.");
+        } catch (IllegalStateException expected) {
+            // configure was never called
+        }
+        for (double penetration : new double[]{0, -0.5, 1.5, Double.NaN}) {
+            try {
+                shoe.configure(1, penetration);
+                fail("Penetration " + penetration + " must be rejected.");
+            } catch (IllegalArgumentException expected) {
+                // Outside (0, 1]
+            }
+        }
+        try {
+            shoe.configure(0, 0.75);
+            fail("A shoe without decks must be rejected.");
+        } catch (IllegalArgumentException expected) {
+            // Fewer than one deck
+        }
+        try {
+            new Shoe(null).configure(1, 0.75);
+            fail("A shoe without a random stream must be rejected.");
+        } catch (IllegalStateException expected) {
+            // setRandom was never called
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.game.sim;
+
+import java.io.BufferedWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import junit.framework.TestCase;
+
+/**
+ * SweepRunnerTest.java
+ * Checks the grid built from per-upcard thresholds, the --max-hands cap, that a seed reproduces a sweep
+ * and that invalid options are rejected.
+ */
+public class SweepRunnerTest extends TestCase {
+
+    /**
+     * Test - Two-Bucket Shorthand
+     * Upcards sharing one range move together, and an upcard with its own range is a separate dimension.
+     */
+    public void testGridGroupsSharedRanges() {
+        int[] low = {12, 13};
+        int[] high = {17};
+        int[][] ranges = new int[SweepPoint.UPCARDS][];
+        for (int upcard = 2; upcard <= 11; upcard++) {
+            ranges[upcard - 2] = upcard <= 6 ? low : high;
+        }
+        ranges[9] = new int[]{16, 17, 18};
+
+        List<SweepPoint> points = SweepRunner.buildGrid(new int[]{17}, ranges, new int[]{1, 6}, new double[]{0.75});
+        assertEquals(2 * 3 * 2, points.size());
+        for (SweepPoint point : points) {
+            for (int upcard = 3; upcard <= 6; upcard++) {
+                assertEquals(point.getStandThreshold(2), point.getStandThreshold(upcard));
+            }
+            assertEquals(17, point.getStandThreshold(10));
+        }
+    }
+
+    /**
+     * Test - Hand Cap
+     * A point never plays more hands than maxHands, even when that is smaller than one batch.
+     */
+    public void testMaxHandsIsRespected() {
+        SweepPoint point = new SweepPoint(17, thresholds(17), 1, 0.75);
+        double[] result = new ShoeSimulator().run(point, new SplittableRandom(1), 0, 10_000, 5);
+        assertEquals(5.0, result[0]);
+        result = new ShoeSimulator().run(point, new SplittableRandom(1), 0, 10_000, 25_000);
+        assertEquals(25_000.0, result[0]);
+    }
+
+    /**
+     * Test - Reproducible Seed
+     * Two sweeps with the same seed give the same rows, whichever threads ran the points.
+     */
+    public void testSeedReproducesSweep() {
+        List<SweepPoint> points = SweepRunner.buildGrid(new int[]{16, 17}, sharedRanges(12, 17), new int[]{1, 2}, new double[]{0.5, 0.75});
+        assertEquals(sortedRows(points, 42), sortedRows(points, 42));
+        assertFalse(sortedRows(points, 42).equals(sortedRows(points, 43)));
+    }
+
+    /**
+     * Test - Penetration Range
+     * A range of decimals with a step includes both ends despite rounding, and a range without a step is rejected.
+     */
+    public void testPenetrationRange() {
+        assertTrue(Arrays.equals(new double[]{0.5, 0.6, 0.7, 0.8, 0.9}, SweepRunner.parseDoubles("0.5:0.9:0.1")));
+        assertTrue(Arrays.equals(new double[]{0.5, 0.75}, SweepRunner.parseDoubles("0.5,0.75")));
+        try {
+            SweepRunner.parseDoubles("0.5:0.9");
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // The step is missing
+        }
+    }
+
+    /**
+     * Test - Invalid Limits
+     * A sweep without a single hand per point and thresholds no hand can reach are rejected instead of writing NaN rows.
+     */
+    public void testInvalidLimitsAreRejected() {
+        List<SweepPoint> points = SweepRunner.buildGrid(new int[]{17}, sharedRanges(17, 17), new int[]{1}, new double[]{0.75});
+        for (long maxHands : new long[]{0, -1}) {
+            try {
+                SweepRunner.run(points, 0, maxHands, 1, new BufferedWriter(new StringWriter()));
+                fail("Expected an IllegalArgumentException for " + maxHands + " hands");
+            } catch (IllegalArgumentException expected) {
+                // Nothing was played
+            }
+        }
+        for (int threshold : new int[]{1, 22}) {
+            try {
+                new SweepPoint(threshold, thresholds(17), 1, 0.75);
+                fail("Expected an IllegalArgumentException for dealer threshold " + threshold);
+            } catch (IllegalArgumentException expected) {
+                // Outside 2 to 21
+            }
+            try {
+                new SweepPoint(17, thresholds(threshold), 1, 0.75);
+                fail("Expected an IllegalArgumentException for stand threshold " + threshold);
+            } catch (IllegalArgumentException expected) {
+                // Outside 2 to 21
+            }
+        }
+    }
+
+    // This method runs a small sweep into memory and gives its rows in sorted order
+    private static List<String> sortedRows(List<SweepPoint> points, long seed) {
+        StringWriter out = new StringWriter();
+        BufferedWriter csv = new BufferedWriter(out);
+        SweepRunner.run(points, 0, 20_000, seed, csv);
+        List<String> rows = Arrays.asList(out.toString().split("\\R"));
+        rows.sort(null);
+        return rows;
+    }
+
+    // This method gives the same threshold for every upcard
+    private static int[] thresholds(int standAt) {
+        int[] thresholds = new int[SweepPoint.UPCARDS];
+        Arrays.fill(thresholds, standAt);
+        return thresholds;
+    }
+
+    // This method gives one range from `from` to `to` shared by every upcard
+    private static int[][] sharedRanges(int from, int to) {
+        int[] range = new int[to - from + 1];
+        for (int i = 0; i < range.length; i++) {
+            range[i] = from + i;
+        }
+        int[][] ranges = new int[SweepPoint.UPCARDS][];
+        Arrays.fill(ranges, range);
+        return ranges;
+    }
+}
@@ -0,0 +1,67 @@
+package com.game.sim;
+
+import com.game.core.BlackjackGame;
+import com.game.ui.ScriptedUI;
+
+/**
+ * TracingUI.java
+ * Extends ScriptedUI to report to a HandRecorder while the scripted decisions are played.
+ * Every display records both scores, and gameOver settles the hand with BlackjackGame.outcome, like SimpleUI.gameOver.
+ */
+class TracingUI extends ScriptedUI {
+
+    // Declaring Instance Variables
+
+    // Instance Variable of type BlackjackGame, which represents the game logic linked to this UI
+    private BlackjackGame game;
+
+    // Instance Variable of type HandRecorder, which receives what the game showed
+    private final HandRecorder recorder;
+
+    /**
+     * Constructor
+     * This is used to create a TracingUI object that plays the given decisions in order.
+     * Parameter: `decisions` is a String of 'y' (hit) and 'n' (stand) characters, validated by ScriptedUI.
+     * Parameter: `recorder` receives the scores of every display and the final outcome.
+     */
+    TracingUI(String decisions, HandRecorder recorder) {
+        super(decisions);
+        this.recorder = recorder;
+    }
+
+    /**
+     * Method - Setter
+     * This method links the TracingUI instance, and the ScriptedUI it extends, to a specific BlackjackGame instance.
+     * Parameter: `game` is of type BlackjackGame.
+     * Void return type
+     */
+    @Override
+    public void setGame(BlackjackGame game) {
+        super.setGame(game);
+        this.game = game; // Keeps its own reference to read the scores
+    }
+
+    /**
+     * Method - Display
+     * This method records the scores of the house and the player each time the game shows the table.
+     * No parameters
+     * Void return type
+     */
+    @Override
+    public void display() {
+        recorder.record(game.calculateScore(game.getHouseCards()), game.calculateScore(game.getYourCards()));
+    }
+
+    /**
+     * Method - Game Over Handler
+     * This method records the final table and settles the hand with BlackjackGame.outcome, exactly like SimpleUI.gameOver.
+     * The summary line of ScriptedUI is not needed, so it is not built.
+     * No parameters
+     * Void return type
+     */
+    @Override
+    public void gameOver() {
+        this.display(); // SimpleUI shows the final table before the scores
+        recorder.settle(game.outcome());
+    }
+}
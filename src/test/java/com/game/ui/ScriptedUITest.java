@@ -0,0 +1,66 @@
+package com.game.ui;
+
+import com.game.core.BlackjackGame;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * ScriptedUITest.java
+ * Checks how BatchMain's scripts are validated, read from a file and played once they run out.
+ */
+public class ScriptedUITest extends TestCase {
+
+    /**
+     * Test - Validation
+     * A typo in a script is rejected before any game is played, while case and surrounding spaces are accepted.
+     */
+    public void testInvalidDecisionIsRejected() {
+        try {
+            new ScriptedUI("yyx");
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage().contains("'x'"));
+        }
+        ScriptedUI ui = new ScriptedUI(" Yn ");
+        assertTrue(ui.hitMe());
+        assertFalse(ui.hitMe());
+    }
+
+    /**
+     * Test - Script File
+     * Every non-blank line that is not a '#' comment is one game, trimmed and in file order.
+     */
+    public void testReadScriptSkipsBlankLinesAndComments() throws IOException {
+        Path script = Files.createTempFile("blackjack", ".txt");
+        try {
+            Files.write(script, Arrays.asList("# warm-up games", "yn", "", "   ", "  yyn  ", "#n", "n"), StandardCharsets.UTF_8);
+            assertEquals(Arrays.asList("yn", "yyn", "n"), ScriptedUI.readScript(script.toString()));
+        } finally {
+            Files.delete(script);
+        }
+    }
+
+    /**
+     * Test - Out of Decisions
+     * Once the script runs out the player stands, so an empty script keeps the two starting cards.
+     */
+    public void testPlayerStandsWhenScriptRunsOut() {
+        ScriptedUI ui = new ScriptedUI("y");
+        assertTrue(ui.hitMe());
+        assertFalse(ui.hitMe());
+        assertFalse(ui.hitMe());
+
+        ui = new ScriptedUI("");
+        BlackjackGame game = new BlackjackGame(ui, new Random(7));
+        game.start();
+        game.play();
+        game.end();
+        assertEquals(2, game.getYourCards().getCards().size());
+        assertTrue(ui.getResult().startsWith("House Score: "));
+    }
+}